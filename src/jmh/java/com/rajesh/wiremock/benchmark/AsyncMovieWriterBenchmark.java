@@ -0,0 +1,91 @@
+package com.rajesh.wiremock.benchmark;
+
+import com.rajesh.wiremock.config.AsyncWriterConfig;
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.service.AsyncMovieWriter;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.MoviesRestClientFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingesting {@value #WRITES} movies with one blocking {@code addMovie} after another,
+ * against the same writes queued on an {@link AsyncMovieWriter}. Scores are writes per
+ * millisecond. With a response delay the serial loop is bound by latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncMovieWriterBenchmark {
+
+    static final int WRITES = 200;
+
+    @Param({"0", "5"})
+    int responseDelayMillis;
+
+    BenchmarkStubServer stubServer;
+    MoviesRestClientFactory factory;
+    MoviesRestClient moviesRestClient;
+    AsyncMovieWriter asyncMovieWriter;
+    Movie newMovie;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        stubServer = new BenchmarkStubServer(10, responseDelayMillis);
+        factory = new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(stubServer.baseUrl())
+                .maxConnections(64)
+                .build());
+        moviesRestClient = factory.moviesRestClient();
+        asyncMovieWriter = factory.asyncMovieWriter(AsyncWriterConfig.defaults());
+        newMovie = new Movie(null, "Toy Story 4", "Tom Hanks, Tim Allen", 2019, LocalDate.of(2019, 6, 20));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        asyncMovieWriter.close();
+        factory.dispose();
+        stubServer.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WRITES)
+    public Movie serialAddMovie(){
+        Movie last = null;
+        for (int i = 0; i < WRITES; i++){
+            last = moviesRestClient.addMovie(newMovie);
+        }
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WRITES)
+    public Movie asyncAddMovie(){
+        CompletableFuture<Movie> last = null;
+        for (int i = 0; i < WRITES; i++){
+            last = asyncMovieWriter.addMovie(newMovie);
+        }
+        asyncMovieWriter.flush();
+        return last.join();
+    }
+}
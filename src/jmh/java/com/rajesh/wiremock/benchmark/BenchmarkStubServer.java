@@ -0,0 +1,154 @@
+package com.rajesh.wiremock.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.rajesh.wiremock.constants.MoviesAppConstants.*;
+
+/**
+ * In-process WireMock server stubbing every movie endpoint from the {@code __files}
+ * fixtures. List endpoints return {@code movieCount} movies so payload size can be varied.
+ */
+public class BenchmarkStubServer {
+
+    public static final int TEMPLATED_MOVIE_ID = 3;
+    /** Number of movies in the {@code all-movies.json} fixture. */
+    public static final int FIXTURE_MOVIE_COUNT = 10;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int CONTAINER_THREADS = 64;
+    private static final int ACCEPT_QUEUE_SIZE = 2048;
+
+    private final WireMockServer wireMockServer;
+
+    public BenchmarkStubServer(int movieCount){
+        this(movieCount, 0);
+    }
+
+    /**
+     * Delays every movie-by-id and add-movie response by {@code responseDelayMillis}. Delayed
+     * responses are scheduled rather than slept on a Jetty thread, so the server is not the
+     * bottleneck for many concurrent callers.
+     */
+    public BenchmarkStubServer(int movieCount, int responseDelayMillis){
+        wireMockServer = new WireMockServer(wireMockConfig()
+                .dynamicPort()
+                .disableRequestJournal()
+                .containerThreads(CONTAINER_THREADS)
+                .jettyAcceptQueueSize(ACCEPT_QUEUE_SIZE)
+                .asynchronousResponseEnabled(responseDelayMillis > 0)
+                .asynchronousResponseThreads(CONTAINER_THREADS)
+                .extensions(new ResponseTemplateTransformer(false)));
+        wireMockServer.start();
+        stubEndpoints(movieCount);
+        if (responseDelayMillis > 0){
+            wireMockServer.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                    .willReturn(json(HttpStatus.OK)
+                            .withBody(fixture("movie.json"))
+                            .withFixedDelay(responseDelayMillis)));
+            wireMockServer.stubFor(post(urlEqualTo(ADD_MOVIE_V1))
+                    .willReturn(json(HttpStatus.OK)
+                            .withBody(fixture("add-movie.json"))
+                            .withFixedDelay(responseDelayMillis)));
+        }
+    }
+
+    public String baseUrl(){
+        return String.format("http://localhost:%s", wireMockServer.port());
+    }
+
+    public void stop(){
+        wireMockServer.stop();
+    }
+
+    private void stubEndpoints(int movieCount){
+        String movies = movieArray(movieCount);
+
+        String etag = "\"movies-" + movieCount + "\"";
+        wireMockServer.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(json(HttpStatus.OK).withHeader(HttpHeaders.ETAG, etag).withBody(movies)));
+        wireMockServer.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo(etag))
+                .atPriority(1)
+                .willReturn(WireMock.aResponse().withStatus(HttpStatus.NOT_MODIFIED.value()).withHeader(HttpHeaders.ETAG, etag)));
+        wireMockServer.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(json(HttpStatus.OK).withBody(fixture("movie.json"))));
+        wireMockServer.stubFor(get(urlEqualTo("/movieservice/v1/movie/" + TEMPLATED_MOVIE_ID))
+                .willReturn(json(HttpStatus.OK)
+                        .withBody(fixture("movie-template.json"))
+                        .withTransformers("response-template")));
+        wireMockServer.stubFor(get(urlEqualTo("/movieservice/v1/movie/404"))
+                .willReturn(json(HttpStatus.NOT_FOUND)
+                        .withBody(fixture("404-movie-id.json"))
+                        .withTransformers("response-template")));
+        wireMockServer.stubFor(get(urlPathEqualTo(GET_MOVIES_BY_NAME))
+                .willReturn(json(HttpStatus.OK).withBody(movies)));
+        wireMockServer.stubFor(get(urlPathEqualTo(GET_MOVIES_BY_YEAR))
+                .willReturn(json(HttpStatus.OK).withBody(movies)));
+        wireMockServer.stubFor(post(urlEqualTo(ADD_MOVIE_V1))
+                .willReturn(json(HttpStatus.OK).withBody(fixture("add-movie.json"))));
+        wireMockServer.stubFor(put(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(json(HttpStatus.OK)
+                        .withBody(fixture("update-movie-template.json"))
+                        .withTransformers("response-template")));
+        wireMockServer.stubFor(delete(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(json(HttpStatus.OK).withBody("Movie Deleted Successfully")));
+    }
+
+    private static ResponseDefinitionBuilder json(HttpStatus status){
+        return WireMock.aResponse()
+                .withStatus(status.value())
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    /**
+     * Builds a JSON array of {@code movieCount} movies by cycling through the
+     * {@code all-movies.json} fixture, giving each movie its own id, so list payloads have
+     * the fixture's mix of names, casts and field order.
+     */
+    static String movieArray(int movieCount){
+        try {
+            ArrayNode fixtureMovies = (ArrayNode) OBJECT_MAPPER.readTree(fixture("all-movies.json"));
+            ArrayNode movies = OBJECT_MAPPER.createArrayNode();
+            for (int i = 0; i < movieCount; i++){
+                ObjectNode movie = fixtureMovies.get(i % fixtureMovies.size()).deepCopy();
+                movies.add(movie.put("movie_id", i + 1));
+            }
+            return OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(movies);
+        } catch (IOException ex){
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static String fixture(String fileName){
+        try (InputStream in = BenchmarkStubServer.class.getClassLoader().getResourceAsStream("__files/" + fileName)){
+            if (in == null){
+                throw new IllegalArgumentException("No fixture named " + fileName);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1){
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException ex){
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
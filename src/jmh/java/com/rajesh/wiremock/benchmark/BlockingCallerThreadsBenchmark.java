@@ -0,0 +1,113 @@
+package com.rajesh.wiremock.benchmark;
+
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.MoviesRestClientFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for {@code callers} concurrent callers to each make one blocking
+ * {@link MoviesRestClient#retrieveMovieById(Integer)} call, where the server takes
+ * {@value #RESPONSE_DELAY_MILLIS}ms to answer. This models I/O-bound request handlers.
+ * <ul>
+ *     <li>{@code platform-pool}: a fixed pool of {@value #PLATFORM_POOL_SIZE} platform threads,
+ *     the usual servlet container sizing. Callers beyond the pool size queue.</li>
+ *     <li>{@code platform-per-task}: a platform thread per caller.</li>
+ *     <li>{@code virtual}: a virtual thread per caller.</li>
+ * </ul>
+ * Compare the average time with the gc profiler's allocation rate. {@code virtual} needs
+ * JDK 21+. This source set compiles for Java 8, so that executor is created reflectively,
+ * and its trials fail on older JDKs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockingCallerThreadsBenchmark {
+
+    static final int RESPONSE_DELAY_MILLIS = 20;
+    static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform-pool", "platform-per-task", "virtual"})
+    String threads;
+
+    @Param({"100", "1000", "5000"})
+    int callers;
+
+    BenchmarkStubServer stubServer;
+    MoviesRestClientFactory factory;
+    MoviesRestClient moviesRestClient;
+    ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        stubServer = new BenchmarkStubServer(10, RESPONSE_DELAY_MILLIS);
+        factory = new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(stubServer.baseUrl())
+                .maxConnections(1000)
+                .maxPendingAcquires(callers)
+                .pendingAcquireTimeout(Duration.ofSeconds(30))
+                .build());
+        moviesRestClient = factory.moviesRestClient();
+        executor = executor(threads);
+    }
+
+    private static ExecutorService executor(String threads) throws ReflectiveOperationException {
+        switch (threads){
+            case "platform-pool":
+                return Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+            case "platform-per-task":
+                return Executors.newCachedThreadPool();
+            case "virtual":
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            default:
+                throw new IllegalArgumentException(threads);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        executor.shutdownNow();
+        factory.dispose();
+        stubServer.stop();
+    }
+
+    @Benchmark
+    public int concurrentBlockingCalls() throws InterruptedException, ExecutionException {
+        List<Future<Movie>> calls = new ArrayList<>(callers);
+        for (int i = 0; i < callers; i++){
+            calls.add(executor.submit(() -> moviesRestClient.retrieveMovieById(1)));
+        }
+        int found = 0;
+        for (Future<Movie> call : calls){
+            if (call.get() != null){
+                found++;
+            }
+        }
+        return found;
+    }
+}
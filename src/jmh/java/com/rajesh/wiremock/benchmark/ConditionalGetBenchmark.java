@@ -0,0 +1,66 @@
+package com.rajesh.wiremock.benchmark;
+
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.MoviesRestClientFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polling {@code retrieveAllMovies} against an unchanged catalogue, with and without
+ * conditional GETs. With them, every call after the first is a {@code 304} with no body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConditionalGetBenchmark {
+
+    @Param({"100", "1000"})
+    int movieCount;
+
+    @Param({"false", "true"})
+    boolean conditionalGets;
+
+    BenchmarkStubServer stubServer;
+    MoviesRestClientFactory factory;
+    MoviesRestClient moviesRestClient;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        stubServer = new BenchmarkStubServer(movieCount);
+        factory = new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(stubServer.baseUrl())
+                .conditionalGets(conditionalGets)
+                .build());
+        moviesRestClient = factory.moviesRestClient();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        factory.dispose();
+        stubServer.stop();
+    }
+
+    @Benchmark
+    public List<Movie> pollAllMovies(){
+        return moviesRestClient.retrieveAllMovies();
+    }
+}
@@ -0,0 +1,78 @@
+package com.rajesh.wiremock.benchmark;
+
+import com.rajesh.wiremock.codec.MovieJsonDecoder;
+import com.rajesh.wiremock.dto.Movie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding a movie array with Spring's default {@link Jackson2JsonDecoder} versus
+ * {@link MovieJsonDecoder}. The payload is fed in 8 KB chunks as it would arrive from the
+ * network. Compare {@code gc.alloc.rate.norm} as well as the score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MovieCodecBenchmark {
+
+    private static final ResolvableType MOVIE = ResolvableType.forClass(Movie.class);
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param({"10", "1000", "10000"})
+    int movieCount;
+
+    @Param({"jackson", "movie"})
+    String codec;
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+    private Decoder<?> decoder;
+    private byte[][] chunks;
+
+    @Setup
+    public void setUp(){
+        decoder = "jackson".equals(codec) ? new Jackson2JsonDecoder() : new MovieJsonDecoder();
+        byte[] payload = BenchmarkStubServer.movieArray(movieCount).getBytes(StandardCharsets.UTF_8);
+        int chunkCount = (payload.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunks = new byte[chunkCount][];
+        for (int i = 0; i < chunkCount; i++){
+            chunks[i] = Arrays.copyOfRange(payload, i * CHUNK_SIZE, Math.min(payload.length, (i + 1) * CHUNK_SIZE));
+        }
+    }
+
+    @Benchmark
+    public List<?> decode(){
+        return decoder.decode(Flux.fromArray(chunks).map(this::wrap), MOVIE,
+                MediaType.APPLICATION_JSON, Collections.emptyMap())
+                .collectList()
+                .block();
+    }
+
+    private DataBuffer wrap(byte[] chunk){
+        return bufferFactory.wrap(chunk);
+    }
+}
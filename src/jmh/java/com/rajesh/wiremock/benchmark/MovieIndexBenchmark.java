@@ -0,0 +1,71 @@
+package com.rajesh.wiremock.benchmark;
+
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.index.MovieIndex;
+import com.rajesh.wiremock.service.ReactiveMoviesRestClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local by-year and by-name lookups on a {@link MovieIndex} loaded with {@code movieCount}
+ * movies, for comparison with the network round trips in {@link MoviesRestClientBenchmark}.
+ * The stub catalogue gives every movie the same name and year, so each query matches all
+ * of them and this measures the worst case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovieIndexBenchmark {
+
+    @Param({"100", "1000"})
+    int movieCount;
+
+    BenchmarkStubServer stubServer;
+    MovieIndex movieIndex;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        stubServer = new BenchmarkStubServer(movieCount);
+        movieIndex = new MovieIndex(new ReactiveMoviesRestClient(WebClient.create(stubServer.baseUrl())));
+        movieIndex.refresh().block();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        movieIndex.close();
+        stubServer.stop();
+    }
+
+    @Benchmark
+    public List<Movie> moviesByYear(){
+        return movieIndex.moviesByYear(2005);
+    }
+
+    @Benchmark
+    public List<Movie> moviesByName(){
+        return movieIndex.moviesByName("batman beg");
+    }
+
+    @Benchmark
+    public List<Movie> moviesByName_NoMatch(){
+        return movieIndex.moviesByName("avengers");
+    }
+}
@@ -0,0 +1,144 @@
+package com.rajesh.wiremock.benchmark;
+
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.MoviesRestClientFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and sampled latency (p50/p99 in the SampleTime results) of every
+ * {@link MoviesRestClient} operation against an in-process WireMock server. Run with
+ * {@code gradle jmh}; the gc profiler adds allocation rate per operation. Only the list
+ * operations use {@link MovieList}, so only they are repeated for each {@code movieCount}.
+ * {@link MoviesRestClientConcurrentBenchmark} repeats the same operations with many threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class MoviesRestClientBenchmark {
+
+    BenchmarkStubServer stubServer;
+    MoviesRestClientFactory factory;
+    MoviesRestClient moviesRestClient;
+    Movie newMovie;
+
+    /**
+     * A separate server whose list endpoints return {@code movieCount} movies.
+     */
+    @State(Scope.Benchmark)
+    public static class MovieList {
+
+        @Param({"10", "100", "1000"})
+        int movieCount;
+
+        BenchmarkStubServer stubServer;
+        MoviesRestClientFactory factory;
+        MoviesRestClient moviesRestClient;
+
+        @Setup(Level.Trial)
+        public void setUp(){
+            stubServer = new BenchmarkStubServer(movieCount);
+            factory = newFactory(stubServer);
+            moviesRestClient = factory.moviesRestClient();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown(){
+            factory.dispose();
+            stubServer.stop();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        stubServer = new BenchmarkStubServer(BenchmarkStubServer.FIXTURE_MOVIE_COUNT);
+        factory = newFactory(stubServer);
+        moviesRestClient = factory.moviesRestClient();
+        newMovie = new Movie(null, "Toy Story 4", "Tom Hanks, Tim Allen", 2019, LocalDate.of(2019, 6, 20));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        factory.dispose();
+        stubServer.stop();
+    }
+
+    private static MoviesRestClientFactory newFactory(BenchmarkStubServer stubServer){
+        return new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(stubServer.baseUrl())
+                .maxConnections(64)
+                .build());
+    }
+
+    @Benchmark
+    public List<Movie> retrieveAllMovies(MovieList list){
+        return list.moviesRestClient.retrieveAllMovies();
+    }
+
+    @Benchmark
+    public Movie retrieveMovieById(){
+        return moviesRestClient.retrieveMovieById(1);
+    }
+
+    @Benchmark
+    public Movie retrieveMovieById_ResponseTemplate(){
+        return moviesRestClient.retrieveMovieById(BenchmarkStubServer.TEMPLATED_MOVIE_ID);
+    }
+
+    @Benchmark
+    public Object retrieveMovieById_NotFound(){
+        try {
+            return moviesRestClient.retrieveMovieById(404);
+        } catch (MovieErrorResponse ex){
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public List<Movie> retrieveMoviesByName(MovieList list){
+        return list.moviesRestClient.retrieveMoviesByName("Avengers");
+    }
+
+    @Benchmark
+    public List<Movie> retrieveMoviesByYear(MovieList list){
+        return list.moviesRestClient.retrieveMoviesByYear(2012);
+    }
+
+    @Benchmark
+    public Movie addMovie(){
+        return moviesRestClient.addMovie(newMovie);
+    }
+
+    @Benchmark
+    public Movie updateMovie(){
+        return moviesRestClient.updateMovie(4, newMovie);
+    }
+
+    @Benchmark
+    public String deleteMovie(){
+        return moviesRestClient.deleteMovie(4);
+    }
+}
@@ -0,0 +1,10 @@
+package com.rajesh.wiremock.benchmark;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * {@link MoviesRestClientBenchmark} with 16 threads sharing one client and connection pool.
+ */
+@Threads(16)
+public class MoviesRestClientConcurrentBenchmark extends MoviesRestClientBenchmark {
+}
@@ -0,0 +1,71 @@
+package com.rajesh.wiremock.benchmark;
+
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import com.rajesh.wiremock.constants.MoviesAppConstants;
+import com.rajesh.wiremock.http.RequestTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilderFactory;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of building request URIs: the {@code WebClient}'s URI builder (what the
+ * client does without a known base URL) against a precompiled {@link RequestTemplate}.
+ * Run with the gc profiler to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestTemplateBenchmark {
+
+    private static final String BASE_URL = "http://localhost:8081";
+
+    UriBuilderFactory uriBuilderFactory;
+    RequestTemplate movieById;
+    RequestTemplate moviesByName;
+
+    @Setup
+    public void setUp(){
+        uriBuilderFactory = new DefaultUriBuilderFactory(BASE_URL);
+        movieById = RequestTemplate.compile(BASE_URL, MovieEndpoint.GET_MOVIE_BY_ID, new HttpHeaders());
+        moviesByName = RequestTemplate.compile(BASE_URL, MovieEndpoint.GET_MOVIES_BY_NAME, new HttpHeaders());
+    }
+
+    @Benchmark
+    public URI movieById_UriBuilder(){
+        return uriBuilderFactory.expand(MoviesAppConstants.GET_MOVIE_BY_ID, 1);
+    }
+
+    @Benchmark
+    public URI movieById_Template(){
+        return movieById.expand(1);
+    }
+
+    @Benchmark
+    public URI moviesByName_UriBuilder(){
+        return uriBuilderFactory.builder()
+                .path(MoviesAppConstants.GET_MOVIES_BY_NAME)
+                .queryParam("movie_name", "The Dark Knight")
+                .build();
+    }
+
+    @Benchmark
+    public URI moviesByName_Template(){
+        return moviesByName.expand("The Dark Knight");
+    }
+}
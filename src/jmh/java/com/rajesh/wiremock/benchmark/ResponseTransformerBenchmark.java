@@ -0,0 +1,98 @@
+package com.rajesh.wiremock.benchmark;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.rajesh.wiremock.loadtest.PreloadedResponseTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-side cost of producing one response body, without the HTTP round trip that
+ * {@link StubServerBenchmark} includes: Handlebars in global mode against
+ * {@link PreloadedResponseTransformer}. {@code update-movie-template.json} uses the path and
+ * a JSON path into the request body; {@code all-movies.json} is static.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseTransformerBenchmark {
+
+    private static final String[] FIXTURES = {"update-movie-template.json", "all-movies.json"};
+
+    @Param({"handlebars", "precompiled"})
+    String transformer;
+
+    Path filesRoot;
+    FileSource files;
+    ResponseDefinitionTransformer responseTransformer;
+    Request updateRequest;
+    ResponseDefinition updateMovie;
+    ResponseDefinition allMovies;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        filesRoot = Files.createTempDirectory("response-transformer-benchmark");
+        for (String fixture : FIXTURES){
+            Files.write(filesRoot.resolve(fixture), BenchmarkStubServer.fixture(fixture).getBytes(StandardCharsets.UTF_8));
+        }
+        files = new SingleRootFileSource(filesRoot.toFile());
+
+        boolean precompiled = transformer.equals("precompiled");
+        responseTransformer = precompiled ? new PreloadedResponseTransformer() : new ResponseTemplateTransformer(true);
+        String[] transformers = precompiled ? new String[]{PreloadedResponseTransformer.NAME} : new String[0];
+        updateMovie = WireMock.aResponse().withBodyFile("update-movie-template.json").withTransformers(transformers).build();
+        allMovies = WireMock.aResponse().withBodyFile("all-movies.json").build();
+        updateRequest = new LoggedRequest("/movieservice/v1/movie/3", "http://localhost/movieservice/v1/movie/3",
+                RequestMethod.PUT, "127.0.0.1", new HttpHeaders(), Collections.emptyMap(), false, new Date(),
+                "{\"cast\": \"Keanu Reeves\"}".getBytes(StandardCharsets.UTF_8), null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (String fixture : FIXTURES){
+            Files.deleteIfExists(filesRoot.resolve(fixture));
+        }
+        Files.deleteIfExists(filesRoot);
+    }
+
+    @Benchmark
+    public ResponseDefinition templatedUpdateMovie(){
+        return responseTransformer.transform(updateRequest, updateMovie, files, Parameters.empty());
+    }
+
+    @Benchmark
+    public ResponseDefinition staticAllMovies(){
+        return responseTransformer.transform(updateRequest, allMovies, files, Parameters.empty());
+    }
+}
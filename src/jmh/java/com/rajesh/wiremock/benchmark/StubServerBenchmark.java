@@ -0,0 +1,120 @@
+package com.rajesh.wiremock.benchmark;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.loadtest.HighThroughputStubProfile;
+import com.rajesh.wiremock.loadtest.PreloadedResponseTransformer;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.MoviesRestClientFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.rajesh.wiremock.constants.MoviesAppConstants.GET_ALL_MOVIES_V1;
+
+/**
+ * The same client calls against a stub configured like the tests (global Handlebars
+ * templating, default Jetty settings) and against {@link HighThroughputStubProfile}. Both
+ * serve the bodies with {@code withBodyFile}; only {@code movie-template.json} is a
+ * template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class StubServerBenchmark {
+
+    @Param({"handlebars", "precompiled"})
+    String stubProfile;
+
+    Path filesRoot;
+    WireMockServer wireMockServer;
+    MoviesRestClientFactory factory;
+    MoviesRestClient moviesRestClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        filesRoot = Files.createTempDirectory("stub-server-benchmark");
+        Path bodies = Files.createDirectories(filesRoot.resolve("__files"));
+        for (String fixture : new String[]{"movie-template.json", "all-movies.json"}){
+            Files.write(bodies.resolve(fixture), BenchmarkStubServer.fixture(fixture).getBytes(StandardCharsets.UTF_8));
+        }
+
+        boolean precompiled = stubProfile.equals("precompiled");
+        WireMockConfiguration options = precompiled
+                ? HighThroughputStubProfile.options()
+                : wireMockConfig().dynamicPort().extensions(new ResponseTemplateTransformer(true));
+        wireMockServer = new WireMockServer(options.usingFilesUnderDirectory(filesRoot.toString()));
+        wireMockServer.start();
+        ResponseDefinitionBuilder template = json().withBodyFile("movie-template.json");
+        wireMockServer.stubFor(get(urlEqualTo("/movieservice/v1/movie/3"))
+                .willReturn(precompiled ? template.withTransformers(PreloadedResponseTransformer.NAME) : template));
+        wireMockServer.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(json().withBodyFile("all-movies.json")));
+
+        factory = new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(String.format("http://localhost:%s", wireMockServer.port()))
+                .maxConnections(64)
+                .build());
+        moviesRestClient = factory.moviesRestClient();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        factory.dispose();
+        wireMockServer.stop();
+        for (String fixture : new String[]{"movie-template.json", "all-movies.json"}){
+            Files.deleteIfExists(filesRoot.resolve("__files").resolve(fixture));
+        }
+        Files.deleteIfExists(filesRoot.resolve("__files"));
+        Files.deleteIfExists(filesRoot);
+    }
+
+    @Benchmark
+    public Movie templatedMovie(){
+        return moviesRestClient.retrieveMovieById(3);
+    }
+
+    @Benchmark
+    public List<Movie> staticAllMovies(){
+        return moviesRestClient.retrieveAllMovies();
+    }
+
+    private static ResponseDefinitionBuilder json(){
+        return WireMock.aResponse()
+                .withStatus(HttpStatus.OK.value())
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    }
+}
@@ -0,0 +1,92 @@
+package com.rajesh.wiremock.loadtest;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.http.Fault;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+/**
+ * Server behaviour injected by {@link LoadTestStubServer}. A fault either applies to a
+ * fixed share of requests ({@link #getAffectedRatio()}), or to every request during
+ * periodic bursts ({@link #getBurstInterval()}).
+ */
+public final class FaultProfile {
+
+    private final String name;
+    private final UnaryOperator<ResponseDefinitionBuilder> fault;
+    private final double affectedRatio;
+    private final Duration burstInterval;
+    private final Duration burstLength;
+
+    private FaultProfile(String name, UnaryOperator<ResponseDefinitionBuilder> fault, double affectedRatio,
+                         Duration burstInterval, Duration burstLength){
+        this.name = name;
+        this.fault = fault;
+        this.affectedRatio = affectedRatio;
+        this.burstInterval = burstInterval;
+        this.burstLength = burstLength;
+    }
+
+    public static FaultProfile none(){
+        return new FaultProfile("none", UnaryOperator.identity(), 0, null, null);
+    }
+
+    public static FaultProfile fixedDelay(Duration delay, double affectedRatio){
+        return new FaultProfile("fixed-delay-" + delay.toMillis() + "ms",
+                response -> response.withFixedDelay((int) delay.toMillis()), affectedRatio, null, null);
+    }
+
+    /**
+     * Delays every request by a lognormal random delay, which has the long right tail of
+     * real service latencies.
+     */
+    public static FaultProfile lognormalDelay(Duration median, double sigma){
+        return new FaultProfile("lognormal-" + median.toMillis() + "ms",
+                response -> response.withLogNormalRandomDelay(median.toMillis(), sigma), 1, null, null);
+    }
+
+    /**
+     * Sends the body of the affected responses in {@code chunks} pieces spread over
+     * {@code duration}, the way a slow or congested server does.
+     */
+    public static FaultProfile chunkedDribble(int chunks, Duration duration, double affectedRatio){
+        return new FaultProfile("dribble-" + duration.toMillis() + "ms",
+                response -> response.withChunkedDribbleDelay(chunks, (int) duration.toMillis()), affectedRatio, null, null);
+    }
+
+    public static FaultProfile connectionReset(double affectedRatio){
+        return new FaultProfile("connection-reset",
+                response -> response.withFault(Fault.CONNECTION_RESET_BY_PEER), affectedRatio, null, null);
+    }
+
+    /**
+     * Answers every request with {@code 503} for {@code burstLength} out of every
+     * {@code burstInterval}.
+     */
+    public static FaultProfile errorBursts(Duration burstInterval, Duration burstLength){
+        return new FaultProfile("5xx-bursts",
+                response -> response.withStatus(HttpStatus.SERVICE_UNAVAILABLE.value()), 0, burstInterval, burstLength);
+    }
+
+    public String getName(){
+        return name;
+    }
+
+    public double getAffectedRatio(){
+        return affectedRatio;
+    }
+
+    public Duration getBurstInterval(){
+        return burstInterval;
+    }
+
+    public Duration getBurstLength(){
+        return burstLength;
+    }
+
+    ResponseDefinitionBuilder apply(ResponseDefinitionBuilder response){
+        return fault.apply(response);
+    }
+}
@@ -0,0 +1,52 @@
+package com.rajesh.wiremock.loadtest;
+
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+/**
+ * WireMock settings for standing in for the movie service under load, so the stub is not
+ * the bottleneck:
+ * <ul>
+ *     <li>Bodies come from memory, and templates are rendered by
+ *     {@link PreloadedResponseTransformer} rather than Handlebars. Handlebars remains
+ *     available per stub as {@code response-template}, but is never applied globally;
+ *     such stubs read their body file on every request.</li>
+ *     <li>There is no request journal, which otherwise grows with every request, and no gzip.</li>
+ *     <li>Jetty gets a large worker pool, an acceptor per four cores and a deep accept
+ *     queue, so connection bursts are queued rather than refused.</li>
+ *     <li>Delayed responses are scheduled rather than slept on a worker thread.</li>
+ *     <li>Stopping the server also stops Jetty's worker threads. With WireMock's default
+ *     stop timeout of zero, idle workers outlive the server for a minute and keep the JVM
+ *     running.</li>
+ * </ul>
+ */
+public final class HighThroughputStubProfile {
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+    private static final int CONTAINER_THREADS = Math.max(64, 8 * CORES);
+    private static final int ACCEPTORS = Math.max(1, CORES / 4);
+    private static final int ACCEPT_QUEUE_SIZE = 4096;
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+    private HighThroughputStubProfile(){
+    }
+
+    /**
+     * @return a dynamic-port configuration; set a port or files root on it as usual
+     */
+    public static WireMockConfiguration options(){
+        return wireMockConfig()
+                .dynamicPort()
+                .disableRequestJournal()
+                .gzipDisabled(true)
+                .containerThreads(CONTAINER_THREADS)
+                .jettyAcceptors(ACCEPTORS)
+                .jettyAcceptQueueSize(ACCEPT_QUEUE_SIZE)
+                .jettyStopTimeout(STOP_TIMEOUT_MILLIS)
+                .asynchronousResponseEnabled(true)
+                .asynchronousResponseThreads(CONTAINER_THREADS)
+                .extensions(new PreloadedResponseTransformer(), new ResponseTemplateTransformer(false));
+    }
+}
@@ -0,0 +1,70 @@
+package com.rajesh.wiremock.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * What one {@link LoadScenario} measured. Latencies are in nanoseconds.
+ * {@link #getResponseTime()} counts from when a request was due to be sent, so queueing
+ * in the client shows up in it. {@link #getServiceTime()} counts from when it was actually
+ * sent.
+ */
+public class LoadResult {
+
+    private final LoadScenario scenario;
+    private final Histogram responseTime;
+    private final Histogram serviceTime;
+    private final Map<String, Long> outcomes;
+    private final long notSent;
+    private final double elapsedSeconds;
+
+    LoadResult(LoadScenario scenario, Histogram responseTime, Histogram serviceTime,
+               Map<String, Long> outcomes, long notSent, double elapsedSeconds){
+        this.scenario = scenario;
+        this.responseTime = responseTime;
+        this.serviceTime = serviceTime;
+        this.outcomes = new TreeMap<>(outcomes);
+        this.notSent = notSent;
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    public LoadScenario getScenario(){
+        return scenario;
+    }
+
+    public Histogram getResponseTime(){
+        return responseTime;
+    }
+
+    public Histogram getServiceTime(){
+        return serviceTime;
+    }
+
+    /**
+     * @return measured requests by outcome: {@code ok}, an HTTP status code, or for
+     * requests that got no response the class of the root cause, such as
+     * {@code ReadTimeoutException} or {@code CircuitBreakerOpenException}
+     */
+    public Map<String, Long> getOutcomes(){
+        return outcomes;
+    }
+
+    public long getNotSent(){
+        return notSent;
+    }
+
+    public long getCompleted(){
+        return responseTime.getTotalCount();
+    }
+
+    public double getThroughput(){
+        return getCompleted() / elapsedSeconds;
+    }
+
+    public double getErrorRatio(){
+        long completed = getCompleted();
+        return completed == 0 ? 0 : (double) (completed - outcomes.getOrDefault(OpenLoopDriver.OK, 0L)) / completed;
+    }
+}
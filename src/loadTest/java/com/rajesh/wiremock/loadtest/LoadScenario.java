@@ -0,0 +1,41 @@
+package com.rajesh.wiremock.loadtest;
+
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * One load-test run: a client configuration under test, the server behaviour it faces,
+ * and the fixed arrival rate it is driven at. Latencies from the {@link #warmup} are
+ * discarded.
+ */
+@Getter
+@Builder
+public class LoadScenario {
+
+    private final String clientName;
+
+    /** Client settings; the base URL is replaced with the stub server's. */
+    private final MoviesClientConfig clientConfig;
+
+    private final FaultProfile faultProfile;
+
+    @Builder.Default
+    private final int requestsPerSecond = 200;
+
+    @Builder.Default
+    private final Duration warmup = Duration.ofSeconds(5);
+
+    @Builder.Default
+    private final Duration duration = Duration.ofSeconds(20);
+
+    /** Requests still outstanding when this is reached are not sent, and counted instead. */
+    @Builder.Default
+    private final int maxOutstanding = 10_000;
+
+    public String getName(){
+        return clientName + " / " + faultProfile.getName();
+    }
+}
@@ -0,0 +1,80 @@
+package com.rajesh.wiremock.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a Markdown table comparing every {@link LoadResult}, one row per scenario, plus an
+ * HdrHistogram percentile distribution ({@code .hgrm}) of each scenario's response times.
+ * The {@code .hgrm} files can be plotted with HdrHistogram's online plotter.
+ */
+public class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final List<LoadResult> results;
+
+    public LoadTestReport(List<LoadResult> results){
+        this.results = results;
+    }
+
+    /**
+     * @return the report file, {@code report.md} in {@code directory}
+     */
+    public File write(File directory) throws FileNotFoundException {
+        if (!directory.isDirectory() && !directory.mkdirs()){
+            throw new FileNotFoundException("Cannot create " + directory);
+        }
+        File report = new File(directory, "report.md");
+        try (PrintStream out = new PrintStream(report)){
+            printTable(out);
+        }
+        for (LoadResult result : results){
+            File distribution = new File(directory, fileName(result) + ".hgrm");
+            try (PrintStream out = new PrintStream(distribution)){
+                result.getResponseTime().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Response times are in milliseconds, measured from when each request was due.
+     */
+    public void printTable(PrintStream out){
+        out.println("| client | fault | offered/s | achieved/s | p50 | p90 | p99 | p99.9 | max | service p99 | errors | outcomes | not sent |");
+        out.println("|---|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|---|---:|");
+        for (LoadResult result : results){
+            Histogram responseTime = result.getResponseTime();
+            out.printf("| %s | %s | %d | %.1f | %s | %s | %s | %s | %s | %s | %.2f%% | %s | %d |%n",
+                    result.getScenario().getClientName(),
+                    result.getScenario().getFaultProfile().getName(),
+                    result.getScenario().getRequestsPerSecond(),
+                    result.getThroughput(),
+                    millis(responseTime.getValueAtPercentile(50)),
+                    millis(responseTime.getValueAtPercentile(90)),
+                    millis(responseTime.getValueAtPercentile(99)),
+                    millis(responseTime.getValueAtPercentile(99.9)),
+                    millis(responseTime.getMaxValue()),
+                    millis(result.getServiceTime().getValueAtPercentile(99)),
+                    result.getErrorRatio() * 100,
+                    result.getOutcomes().entrySet().stream()
+                            .map(outcome -> outcome.getKey() + "=" + outcome.getValue())
+                            .collect(Collectors.joining(" ")),
+                    result.getNotSent());
+        }
+    }
+
+    private static String millis(long nanos){
+        return String.format("%.1f", nanos / NANOS_PER_MILLI);
+    }
+
+    private static String fileName(LoadResult result){
+        return result.getScenario().getName().replaceAll("[^A-Za-z0-9.-]+", "_");
+    }
+}
@@ -0,0 +1,120 @@
+package com.rajesh.wiremock.loadtest;
+
+import com.rajesh.wiremock.config.CircuitBreakerConfig;
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.config.RetryConfig;
+import com.rajesh.wiremock.service.MoviesRestClientFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Runs every client configuration against every fault profile and writes a
+ * {@link LoadTestReport}. Run with {@code gradle loadTest}. These system properties narrow
+ * or resize the run:
+ * <ul>
+ *     <li>{@code loadtest.clients}, {@code loadtest.faults}: comma-separated names to run</li>
+ *     <li>{@code loadtest.rate}: requests per second (default 200)</li>
+ *     <li>{@code loadtest.warmup}, {@code loadtest.duration}: ISO-8601 durations
+ *     (default {@code PT5S} and {@code PT20S})</li>
+ * </ul>
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        File reportDirectory = new File(args.length > 0 ? args[0] : "build/reports/loadtest");
+        int rate = Integer.getInteger("loadtest.rate", 200);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT5S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT20S"));
+        Map<String, MoviesClientConfig> clients = select(clientConfigs(), System.getProperty("loadtest.clients"));
+        Map<String, FaultProfile> faults = select(faultProfiles(), System.getProperty("loadtest.faults"));
+
+        List<LoadResult> results = new ArrayList<>();
+        for (FaultProfile faultProfile : faults.values()){
+            LoadTestStubServer stubServer = new LoadTestStubServer(faultProfile);
+            try {
+                for (Map.Entry<String, MoviesClientConfig> client : clients.entrySet()){
+                    LoadScenario scenario = LoadScenario.builder()
+                            .clientName(client.getKey())
+                            .clientConfig(client.getValue().toBuilder().baseUrl(stubServer.baseUrl()).build())
+                            .faultProfile(faultProfile)
+                            .requestsPerSecond(rate)
+                            .warmup(warmup)
+                            .duration(duration)
+                            .build();
+                    log.info("Running {} at {} requests/s", scenario.getName(), rate);
+                    results.add(run(scenario));
+                }
+            } finally {
+                stubServer.stop();
+            }
+        }
+
+        LoadTestReport report = new LoadTestReport(results);
+        report.printTable(System.out);
+        log.info("Report written to {}", report.write(reportDirectory));
+    }
+
+    private static LoadResult run(LoadScenario scenario){
+        MoviesRestClientFactory factory = new MoviesRestClientFactory(scenario.getClientConfig());
+        try {
+            return new OpenLoopDriver(factory.moviesRestClient(), factory.blockingExecutor()).run(scenario);
+        } finally {
+            factory.dispose();
+        }
+    }
+
+    static Map<String, MoviesClientConfig> clientConfigs(){
+        Map<String, MoviesClientConfig> clients = new LinkedHashMap<>();
+        clients.put("default", MoviesClientConfig.builder().build());
+        clients.put("small-pool", MoviesClientConfig.builder()
+                .maxConnections(8)
+                .maxPendingAcquires(100)
+                .pendingAcquireTimeout(Duration.ofMillis(500))
+                .build());
+        clients.put("short-timeout", MoviesClientConfig.builder()
+                .responseTimeout(Duration.ofMillis(250))
+                .build());
+        clients.put("resilient", MoviesClientConfig.builder()
+                .responseTimeout(Duration.ofMillis(250))
+                .retry(RetryConfig.defaults())
+                .circuitBreaker(CircuitBreakerConfig.defaults())
+                .build());
+        return clients;
+    }
+
+    static Map<String, FaultProfile> faultProfiles(){
+        List<FaultProfile> profiles = Arrays.asList(
+                FaultProfile.none(),
+                FaultProfile.fixedDelay(Duration.ofMillis(50), 1),
+                FaultProfile.lognormalDelay(Duration.ofMillis(20), 0.6),
+                FaultProfile.chunkedDribble(5, Duration.ofMillis(500), 0.05),
+                FaultProfile.connectionReset(0.05),
+                FaultProfile.errorBursts(Duration.ofSeconds(5), Duration.ofSeconds(1)));
+        return profiles.stream().collect(Collectors.toMap(FaultProfile::getName, profile -> profile,
+                (first, second) -> first, LinkedHashMap::new));
+    }
+
+    private static <T> Map<String, T> select(Map<String, T> all, String names){
+        if (names == null || names.isEmpty()){
+            return all;
+        }
+        Map<String, T> selected = new LinkedHashMap<>();
+        for (String name : names.split(",")){
+            T value = all.get(name.trim());
+            if (value == null){
+                throw new IllegalArgumentException("Unknown name " + name + ", expected one of " + all.keySet());
+            }
+            selected.put(name.trim(), value);
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,78 @@
+package com.rajesh.wiremock.loadtest;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+
+/**
+ * In-process movie service for load tests. Movie ids below {@link #FAULTY_MOVIE_ID_START}
+ * answer normally. Ids from {@link #FAULTY_MOVIE_ID_START} up answer with the
+ * {@link FaultProfile}'s fault, so the driver controls the share of faulty requests through
+ * the ids it asks for. A profile with bursts makes every id fail while a burst lasts.
+ */
+public class LoadTestStubServer {
+
+    public static final int FAULTY_MOVIE_ID_START = 1_000_000;
+
+    private static final String MOVIE = "{\"movie_id\": 1, \"name\": \"Batman Begins\", \"year\": 2005, "
+            + "\"cast\": \"Christian Bale, Katie Holmes , Liam Neeson\", \"release_date\": \"2005-06-15\"}";
+
+    private final WireMockServer wireMockServer;
+    private final ScheduledExecutorService bursts;
+
+    public LoadTestStubServer(FaultProfile faultProfile){
+        wireMockServer = new WireMockServer(HighThroughputStubProfile.options());
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]{1,6}"))
+                .willReturn(movie()));
+        wireMockServer.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]{7,}"))
+                .willReturn(faultProfile.apply(movie())));
+        bursts = faultProfile.getBurstInterval() == null ? null : startBursts(faultProfile);
+    }
+
+    public String baseUrl(){
+        return String.format("http://localhost:%s", wireMockServer.port());
+    }
+
+    public void stop(){
+        if (bursts != null){
+            bursts.shutdownNow();
+        }
+        wireMockServer.stop();
+    }
+
+    private ScheduledExecutorService startBursts(FaultProfile faultProfile){
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "loadtest-fault-bursts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = faultProfile.getBurstInterval().toMillis();
+        long length = faultProfile.getBurstLength().toMillis();
+        scheduler.scheduleAtFixedRate(() -> {
+            StubMapping burst = wireMockServer.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                    .atPriority(1)
+                    .willReturn(faultProfile.apply(movie())));
+            scheduler.schedule(() -> wireMockServer.removeStub(burst), length, TimeUnit.MILLISECONDS);
+        }, interval - length, interval, TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+
+    private static ResponseDefinitionBuilder movie(){
+        return WireMock.aResponse()
+                .withStatus(HttpStatus.OK.value())
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody(MOVIE);
+    }
+}
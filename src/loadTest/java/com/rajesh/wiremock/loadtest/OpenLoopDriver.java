@@ -0,0 +1,127 @@
+package com.rajesh.wiremock.loadtest;
+
+import com.rajesh.wiremock.resilience.Failures;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends {@code retrieveMovieById} at a fixed arrival rate, whether or not earlier requests
+ * have completed. Request {@code i} is due {@code i / rate} seconds after the start and its
+ * response time is measured from then. A slow response therefore cannot delay later
+ * requests or hide their queueing time (coordinated omission).
+ */
+@Slf4j
+public class OpenLoopDriver {
+
+    static final String OK = "ok";
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final int NORMAL_MOVIE_IDS = 1_000;
+
+    private final MoviesRestClient moviesRestClient;
+    private final ExecutorService callers;
+
+    /**
+     * @param callers runs each blocking call; it must not queue, or queueing in it would
+     *                throttle the arrival rate
+     */
+    public OpenLoopDriver(MoviesRestClient moviesRestClient, ExecutorService callers){
+        this.moviesRestClient = moviesRestClient;
+        this.callers = callers;
+    }
+
+    public LoadResult run(LoadScenario scenario){
+        Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        AtomicInteger outstanding = new AtomicInteger();
+        long notSent = 0;
+        // seeded, so every configuration faces the same sequence of faulty requests
+        Random random = new Random(42);
+        double affectedRatio = scenario.getFaultProfile().getAffectedRatio();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / scenario.getRequestsPerSecond();
+        long start = System.nanoTime();
+        long measureFrom = start + scenario.getWarmup().toNanos();
+        long end = measureFrom + scenario.getDuration().toNanos();
+        for (long i = 0; ; i++){
+            long due = start + i * intervalNanos;
+            if (due - end >= 0){
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0){
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = due - measureFrom >= 0;
+            if (outstanding.get() >= scenario.getMaxOutstanding()){
+                if (measured){
+                    notSent++;
+                }
+                continue;
+            }
+            int movieId = random.nextDouble() < affectedRatio
+                    ? LoadTestStubServer.FAULTY_MOVIE_ID_START + random.nextInt(NORMAL_MOVIE_IDS)
+                    : 1 + random.nextInt(NORMAL_MOVIE_IDS);
+            outstanding.incrementAndGet();
+            callers.execute(() -> {
+                long sent = System.nanoTime();
+                String outcome = call(movieId);
+                long done = System.nanoTime();
+                if (measured){
+                    responseTime.recordValue(Math.min(done - due, HIGHEST_TRACKABLE_NANOS));
+                    serviceTime.recordValue(Math.min(done - sent, HIGHEST_TRACKABLE_NANOS));
+                    outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+                }
+                outstanding.decrementAndGet();
+            });
+        }
+        awaitOutstanding(outstanding);
+        double elapsedSeconds = (System.nanoTime() - measureFrom) / 1e9;
+
+        Map<String, Long> counts = new HashMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return new LoadResult(scenario, responseTime, serviceTime, counts, notSent, elapsedSeconds);
+    }
+
+    private String call(int movieId){
+        try {
+            moviesRestClient.retrieveMovieById(movieId);
+            return OK;
+        } catch (RuntimeException ex){
+            int statusCode = Failures.statusCode(ex);
+            if (statusCode != 0){
+                return String.valueOf(statusCode);
+            }
+            Throwable cause = ex;
+            while (cause.getCause() != null && cause.getCause() != cause){
+                cause = cause.getCause();
+            }
+            return cause.getClass().getSimpleName();
+        }
+    }
+
+    private static void awaitOutstanding(AtomicInteger outstanding){
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (outstanding.get() > 0 && deadline - System.nanoTime() > 0){
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        if (outstanding.get() > 0){
+            log.warn("{} requests still outstanding after draining for {}s",
+                    outstanding.get(), TimeUnit.NANOSECONDS.toSeconds(DRAIN_TIMEOUT_NANOS));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.rajesh.wiremock.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.http.QueryParameter;
+import com.github.tomakehurst.wiremock.http.Request;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A response template parsed once into literal byte chunks and expressions. Rendering
+ * copies the chunks and evaluates only the expressions, instead of running Handlebars over
+ * the whole body. It supports the subset of WireMock's template helpers the movie fixtures
+ * use:
+ * <ul>
+ *     <li>{@code request.url}, {@code request.path}, {@code request.path.[n]}, {@code request.query.name}</li>
+ *     <li>{@code jsonPath request.body '$.field.field'}</li>
+ *     <li>{@code randomValue length=n type='NUMERIC'} (or {@code 'ALPHANUMERIC'})</li>
+ *     <li>{@code now}, in UTC to the second</li>
+ * </ul>
+ * Values are HTML-escaped as Handlebars does for {@code {{...}}}. A template using
+ * anything else fails to compile.
+ */
+final class PrecompiledTemplate {
+
+    private static final Pattern EXPRESSION = Pattern.compile("\\{\\{\\s*(.+?)\\s*}}");
+    private static final Pattern PATH_SEGMENT = Pattern.compile("request\\.path\\.\\[(\\d+)]");
+    private static final Pattern QUERY = Pattern.compile("request\\.query\\.([\\w-]+)");
+    private static final Pattern JSON_PATH = Pattern.compile("jsonPath request\\.body '\\$\\.([\\w.]+)'");
+    private static final Pattern RANDOM_VALUE = Pattern.compile("randomValue length=(\\d+) type='(NUMERIC|ALPHANUMERIC)'");
+    private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final List<byte[]> literals;
+    private final List<Expression> expressions;
+    private final int literalLength;
+
+    private PrecompiledTemplate(List<byte[]> literals, List<Expression> expressions){
+        this.literals = literals;
+        this.expressions = expressions;
+        this.literalLength = literals.stream().mapToInt(literal -> literal.length).sum();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the template uses an expression this engine does
+     *                                  not support
+     */
+    static PrecompiledTemplate compile(String template){
+        List<byte[]> literals = new ArrayList<>();
+        List<Expression> expressions = new ArrayList<>();
+        Matcher matcher = EXPRESSION.matcher(template);
+        int literalStart = 0;
+        while (matcher.find()){
+            literals.add(template.substring(literalStart, matcher.start()).getBytes(StandardCharsets.UTF_8));
+            expressions.add(expression(matcher.group(1)));
+            literalStart = matcher.end();
+        }
+        literals.add(template.substring(literalStart).getBytes(StandardCharsets.UTF_8));
+        return new PrecompiledTemplate(literals, expressions);
+    }
+
+    boolean isStatic(){
+        return expressions.isEmpty();
+    }
+
+    byte[] render(Request request){
+        RenderContext context = new RenderContext(request);
+        ByteArrayOutputStream body = new ByteArrayOutputStream(literalLength + 16 * expressions.size());
+        for (int i = 0; i < expressions.size(); i++){
+            byte[] literal = literals.get(i);
+            body.write(literal, 0, literal.length);
+            byte[] value = escape(expressions.get(i).evaluate(context)).getBytes(StandardCharsets.UTF_8);
+            body.write(value, 0, value.length);
+        }
+        byte[] last = literals.get(literals.size() - 1);
+        body.write(last, 0, last.length);
+        return body.toByteArray();
+    }
+
+    private static Expression expression(String source){
+        if (source.equals("request.url")){
+            return context -> context.request.getUrl();
+        }
+        if (source.equals("request.path")){
+            return RenderContext::path;
+        }
+        if (source.equals("now")){
+            return context -> DateTimeFormatter.ISO_INSTANT.format(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        }
+        Matcher matcher = PATH_SEGMENT.matcher(source);
+        if (matcher.matches()){
+            int index = Integer.parseInt(matcher.group(1));
+            return context -> context.pathSegment(index);
+        }
+        matcher = QUERY.matcher(source);
+        if (matcher.matches()){
+            String name = matcher.group(1);
+            return context -> {
+                QueryParameter parameter = context.request.queryParameter(name);
+                return parameter.isPresent() ? parameter.firstValue() : "";
+            };
+        }
+        matcher = JSON_PATH.matcher(source);
+        if (matcher.matches()){
+            String[] fields = matcher.group(1).split("\\.");
+            return context -> context.jsonField(fields);
+        }
+        matcher = RANDOM_VALUE.matcher(source);
+        if (matcher.matches()){
+            int length = Integer.parseInt(matcher.group(1));
+            int alphabet = matcher.group(2).equals("NUMERIC") ? 10 : ALPHANUMERIC.length();
+            int offset = matcher.group(2).equals("NUMERIC") ? ALPHANUMERIC.length() - 10 : 0;
+            return context -> {
+                char[] value = new char[length];
+                for (int i = 0; i < length; i++){
+                    value[i] = ALPHANUMERIC.charAt(offset + ThreadLocalRandom.current().nextInt(alphabet));
+                }
+                return new String(value);
+            };
+        }
+        throw new IllegalArgumentException("Unsupported template expression {{" + source
+                + "}}; use the response-template transformer for this stub");
+    }
+
+    private static String escape(String value){
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++){
+            String replacement;
+            switch (value.charAt(i)){
+                case '&': replacement = "&amp;"; break;
+                case '<': replacement = "&lt;"; break;
+                case '>': replacement = "&gt;"; break;
+                case '"': replacement = "&quot;"; break;
+                case '\'': replacement = "&#x27;"; break;
+                case '`': replacement = "&#x60;"; break;
+                case '=': replacement = "&#x3D;"; break;
+                default: replacement = null;
+            }
+            if (replacement != null && escaped == null){
+                escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            if (escaped != null){
+                if (replacement != null){
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(value.charAt(i));
+                }
+            }
+        }
+        return escaped == null ? value : escaped.toString();
+    }
+
+    private interface Expression {
+        String evaluate(RenderContext context);
+    }
+
+    /**
+     * Per-render state; the path is split and the body parsed at most once, and only if an
+     * expression needs them.
+     */
+    private static final class RenderContext {
+
+        private final Request request;
+        private String[] pathSegments;
+        private JsonNode body;
+
+        private RenderContext(Request request){
+            this.request = request;
+        }
+
+        private String path(){
+            String url = request.getUrl();
+            int query = url.indexOf('?');
+            return query < 0 ? url : url.substring(0, query);
+        }
+
+        private String pathSegment(int index){
+            if (pathSegments == null){
+                String path = path();
+                pathSegments = (path.startsWith("/") ? path.substring(1) : path).split("/");
+            }
+            return index < pathSegments.length ? pathSegments[index] : "";
+        }
+
+        private String jsonField(String[] fields){
+            if (body == null){
+                try {
+                    body = OBJECT_MAPPER.readTree(request.getBody());
+                } catch (IOException ex){
+                    throw new UncheckedIOException(ex);
+                }
+            }
+            JsonNode node = body;
+            for (String field : fields){
+                node = node == null ? null : node.get(field);
+            }
+            return node == null || node.isNull() ? "" : node.asText();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.rajesh.wiremock.loadtest;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves {@code withBodyFile} bodies from memory instead of reading the file for every
+ * response. Stubs that opt in with {@code withTransformers(PreloadedResponseTransformer.NAME)}
+ * also have their body rendered as a {@link PrecompiledTemplate}, parsed on first use. This
+ * is a cheaper stand-in for WireMock's {@code ResponseTemplateTransformer}, whose global
+ * mode runs Handlebars over every body, templated or not. Stubs that name
+ * {@code response-template} are left untouched, so Handlebars still sees their body file.
+ */
+public class PreloadedResponseTransformer extends ResponseDefinitionTransformer {
+
+    public static final String NAME = "precompiled-template";
+
+    private final Map<String, byte[]> fileBodies = new ConcurrentHashMap<>();
+    private final Map<String, PrecompiledTemplate> fileTemplates = new ConcurrentHashMap<>();
+    private final Map<String, PrecompiledTemplate> inlineTemplates = new ConcurrentHashMap<>();
+
+    @Override
+    public ResponseDefinition transform(Request request, ResponseDefinition responseDefinition,
+                                        FileSource files, Parameters parameters){
+        List<String> transformers = responseDefinition.getTransformers();
+        if (transformers != null && transformers.contains(ResponseTemplateTransformer.NAME)){
+            return responseDefinition;
+        }
+        boolean templated = transformers != null && transformers.contains(NAME);
+        if (responseDefinition.specifiesBodyFile()){
+            String fileName = responseDefinition.getBodyFileName();
+            byte[] body = templated
+                    ? fileTemplates.computeIfAbsent(fileName, name -> compile(read(files, name))).render(request)
+                    : read(files, fileName);
+            return withBody(responseDefinition, body);
+        }
+        if (templated && responseDefinition.specifiesTextBodyContent()){
+            PrecompiledTemplate template = inlineTemplates.computeIfAbsent(
+                    responseDefinition.getBody(), PrecompiledTemplate::compile);
+            return template.isStatic() ? responseDefinition : withBody(responseDefinition, template.render(request));
+        }
+        return responseDefinition;
+    }
+
+    @Override
+    public boolean applyGlobally(){
+        return true;
+    }
+
+    @Override
+    public String getName(){
+        return NAME;
+    }
+
+    private byte[] read(FileSource fileSource, String fileName){
+        return fileBodies.computeIfAbsent(fileName, name -> fileSource.getBinaryFileNamed(name).readContents());
+    }
+
+    private static PrecompiledTemplate compile(byte[] template){
+        return PrecompiledTemplate.compile(new String(template, StandardCharsets.UTF_8));
+    }
+
+    private static ResponseDefinition withBody(ResponseDefinition responseDefinition, byte[] body){
+        return ResponseDefinitionBuilder.like(responseDefinition)
+                .but()
+                .withBodyFile(null)
+                .withBody(body)
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.rajesh.wiremock.codec;
+
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.dto.MovieTable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ClientCodecConfigurer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Decoder specialised for {@link Movie}, used in place of the generic Jackson codec when
+ * registered on the {@code WebClient}. It parses with {@link MovieJsonParser}, so there is
+ * no reflection, no per-element token buffering and no {@code DateTimeFormatter}. The JSON
+ * accepted is the same as with the default codec. Only {@code Movie} targets are claimed;
+ * every other type still goes to Jackson.
+ */
+public class MovieJsonDecoder extends AbstractDecoder<Movie> {
+
+    public MovieJsonDecoder(){
+        super(MediaType.APPLICATION_JSON,
+                MediaType.APPLICATION_STREAM_JSON,
+                new MediaType("application", "*+json"));
+    }
+
+    /**
+     * Default client exchange strategies with this decoder registered ahead of Jackson.
+     */
+    public static ExchangeStrategies exchangeStrategies(){
+        return ExchangeStrategies.builder()
+                .codecs(MovieJsonDecoder::register)
+                .build();
+    }
+
+    public static void register(ClientCodecConfigurer configurer){
+        configurer.customCodecs().decoder(new MovieJsonDecoder());
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType){
+        return Movie.class == elementType.resolve() && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<Movie> decode(Publisher<DataBuffer> input, ResolvableType elementType,
+                              @Nullable MimeType mimeType, @Nullable Map<String, Object> hints){
+        return Flux.defer(() -> {
+            MovieJsonParser<Movie> parser = new MovieJsonParser<>(new MovieObjectSink());
+            return Flux.from(input)
+                    .concatMapIterable(buffer -> {
+                        try {
+                            return parser.feed(buffer);
+                        } catch (IOException | RuntimeException ex){
+                            throw new DecodingException("JSON decoding error: " + ex.getMessage(), ex);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .concatWith(Flux.defer(() -> {
+                        try {
+                            return Flux.fromIterable(parser.endOfInput());
+                        } catch (IOException | RuntimeException ex){
+                            return Flux.error(new DecodingException("JSON decoding error: " + ex.getMessage(), ex));
+                        }
+                    }));
+        });
+    }
+
+    @Override
+    public Mono<Movie> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType,
+                                    @Nullable MimeType mimeType, @Nullable Map<String, Object> hints){
+        return decode(input, elementType, mimeType, hints).singleOrEmpty();
+    }
+
+    /**
+     * Decodes a JSON array or newline-delimited stream of movies straight into a
+     * {@link MovieTable}, without creating a {@code Movie} per element. Each buffer is
+     * released once it has been parsed.
+     */
+    public static Mono<MovieTable> decodeTable(Publisher<DataBuffer> input){
+        return Mono.defer(() -> {
+            MovieTable.Builder table = MovieTable.builder();
+            MovieJsonParser<Void> parser = new MovieJsonParser<>(table);
+            return Flux.from(input)
+                    .doOnNext(buffer -> {
+                        try {
+                            parser.feed(buffer);
+                        } catch (IOException | RuntimeException ex){
+                            throw new DecodingException("JSON decoding error: " + ex.getMessage(), ex);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .then(Mono.fromCallable(() -> {
+                        try {
+                            parser.endOfInput();
+                        } catch (IOException | RuntimeException ex){
+                            throw new DecodingException("JSON decoding error: " + ex.getMessage(), ex);
+                        }
+                        return table.build();
+                    }));
+        });
+    }
+
+    /**
+     * Builds one {@link Movie} per JSON object.
+     */
+    private static final class MovieObjectSink implements MovieSink<Movie> {
+
+        private Movie movie = new Movie();
+
+        @Override
+        public void movieId(long movieId){
+            movie.movie_id = movieId;
+        }
+
+        @Override
+        public void name(String name){
+            movie.name = name;
+        }
+
+        @Override
+        public void cast(String cast){
+            movie.cast = cast;
+        }
+
+        @Override
+        public void year(int year){
+            movie.year = year;
+        }
+
+        @Override
+        public void releaseDate(long epochDay){
+            movie.release_date = LocalDate.ofEpochDay(epochDay);
+        }
+
+        @Override
+        public Movie endMovie(){
+            Movie completed = movie;
+            movie = new Movie();
+            return completed;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.rajesh.wiremock.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Incremental, push-based parser for movie JSON. Input may arrive in arbitrary chunks and
+ * may be a single movie, an array of movies or a stream of whitespace-separated movies
+ * (newline-delimited JSON). Tokens are read straight off Jackson's non-blocking parser and
+ * dispatched on the five known field names; no tree or intermediate token buffer is built
+ * and unknown fields are skipped.
+ * <p>
+ * Values are accepted in the same shapes Jackson's data binding accepts for {@code Movie}:
+ * numbers may be JSON strings and {@code release_date} may be {@code "yyyy-MM-dd"} or
+ * {@code [yyyy, MM, dd]}. Instances are not thread-safe; use one per response.
+ */
+public class MovieJsonParser<T> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private enum Field { MOVIE_ID, NAME, CAST, YEAR, RELEASE_DATE, UNKNOWN }
+
+    private final MovieSink<T> sink;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private byte[] scratch = new byte[8192];
+    private List<T> completed = new ArrayList<>();
+
+    private int depth;
+    private boolean rootArray;
+    private int movieDepth = -1;
+    private Field field = Field.UNKNOWN;
+    private int dateComponents;
+    private final int[] dateArray = new int[3];
+
+    public MovieJsonParser(MovieSink<T> sink){
+        this.sink = sink;
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException ex){
+            throw new IllegalStateException(ex);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Consumes the readable bytes of {@code buffer} (without releasing it) and returns the
+     * movies completed by them. The bytes are copied into a scratch array that is reused
+     * for every chunk.
+     */
+    public List<T> feed(DataBuffer buffer) throws IOException {
+        int length = buffer.readableByteCount();
+        if (scratch.length < length){
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.read(scratch, 0, length);
+        return feed(scratch, 0, length);
+    }
+
+    public List<T> feed(byte[] bytes, int offset, int length) throws IOException {
+        feeder.feedInput(bytes, offset, offset + length);
+        return drain();
+    }
+
+    /**
+     * Signals that no more input will arrive and returns any movies completed by that.
+     */
+    public List<T> endOfInput() throws IOException {
+        feeder.endOfInput();
+        List<T> movies = drain();
+        parser.close();
+        return movies;
+    }
+
+    private List<T> drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE){
+            onToken(token);
+        }
+        if (completed.isEmpty()){
+            return Collections.emptyList();
+        }
+        List<T> movies = completed;
+        completed = new ArrayList<>();
+        return movies;
+    }
+
+    private void onToken(JsonToken token) throws IOException {
+        switch (token){
+            case START_OBJECT:
+                if (movieDepth < 0 && (depth == 0 || (depth == 1 && rootArray))){
+                    movieDepth = depth + 1;
+                    field = Field.UNKNOWN;
+                }
+                depth++;
+                break;
+            case END_OBJECT:
+                if (depth == movieDepth){
+                    T movie = sink.endMovie();
+                    if (movie != null){
+                        completed.add(movie);
+                    }
+                    movieDepth = -1;
+                }
+                depth--;
+                break;
+            case START_ARRAY:
+                if (depth == 0){
+                    rootArray = true;
+                } else if (depth == movieDepth && field == Field.RELEASE_DATE){
+                    dateComponents = 0;
+                }
+                depth++;
+                break;
+            case END_ARRAY:
+                depth--;
+                if (depth == 0){
+                    rootArray = false;
+                } else if (depth == movieDepth && field == Field.RELEASE_DATE && dateComponents == 3){
+                    sink.releaseDate(arrayDate(dateArray[0], dateArray[1], dateArray[2]));
+                }
+                break;
+            case FIELD_NAME:
+                if (depth == movieDepth){
+                    field = field(parser.getCurrentName());
+                }
+                break;
+            case VALUE_NULL:
+                break;
+            default:
+                if (depth == movieDepth){
+                    onValue(token);
+                } else if (depth == movieDepth + 1 && field == Field.RELEASE_DATE
+                        && token == JsonToken.VALUE_NUMBER_INT && dateComponents < 3){
+                    dateArray[dateComponents++] = parser.getIntValue();
+                }
+        }
+    }
+
+    private void onValue(JsonToken token) throws IOException {
+        switch (field){
+            case MOVIE_ID:
+                if (token == JsonToken.VALUE_NUMBER_INT){
+                    sink.movieId(parser.getLongValue());
+                } else if (token == JsonToken.VALUE_STRING && !isBlank(parser.getText())){
+                    sink.movieId(Long.parseLong(parser.getText().trim()));
+                }
+                break;
+            case YEAR:
+                if (token == JsonToken.VALUE_NUMBER_INT){
+                    sink.year(parser.getIntValue());
+                } else if (token == JsonToken.VALUE_STRING && !isBlank(parser.getText())){
+                    sink.year(Integer.parseInt(parser.getText().trim()));
+                }
+                break;
+            case NAME:
+                sink.name(parser.getValueAsString());
+                break;
+            case CAST:
+                sink.cast(parser.getValueAsString());
+                break;
+            case RELEASE_DATE:
+                if (token == JsonToken.VALUE_STRING && !isBlank(parser.getText())){
+                    sink.releaseDate(parseIsoDate(parser.getText().trim()));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static Field field(String name){
+        switch (name){
+            case "movie_id":
+                return Field.MOVIE_ID;
+            case "name":
+                return Field.NAME;
+            case "cast":
+                return Field.CAST;
+            case "year":
+                return Field.YEAR;
+            case "release_date":
+                return Field.RELEASE_DATE;
+            default:
+                return Field.UNKNOWN;
+        }
+    }
+
+    private static boolean isBlank(String text){
+        return text.trim().isEmpty();
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd} without going through a {@code DateTimeFormatter}; anything
+     * else is left to {@link LocalDate#parse}.
+     */
+    static long parseIsoDate(String text){
+        if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-'){
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 7);
+            int day = digits(text, 8, 10);
+            if (year >= 0 && isValidDate(year, month, day)){
+                return epochDay(year, month, day);
+            }
+        }
+        return LocalDate.parse(text).toEpochDay();
+    }
+
+    private static int digits(String text, int from, int to){
+        int value = 0;
+        for (int i = from; i < to; i++){
+            char c = text.charAt(i);
+            if (c < '0' || c > '9'){
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Date given as {@code [year, month, day]}; invalid dates are rejected by
+     * {@link LocalDate#of}, as Jackson rejects them.
+     */
+    private static long arrayDate(int year, int month, int day){
+        return isValidDate(year, month, day) ? epochDay(year, month, day) : LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    /**
+     * Whether {@code day} exists in {@code month} of {@code year}, counting leap years.
+     */
+    static boolean isValidDate(int year, int month, int day){
+        if (month < 1 || month > 12 || day < 1){
+            return false;
+        }
+        int length;
+        if (month == 2){
+            boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+            length = leap ? 29 : 28;
+        } else {
+            length = month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+        }
+        return day <= length;
+    }
+
+    /**
+     * Days since 1970-01-01 for a proleptic Gregorian date, as {@link LocalDate#toEpochDay()}
+     * computes it, without creating a {@code LocalDate}.
+     */
+    static long epochDay(int year, int month, int day){
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+}
@@ -0,0 +1,27 @@
+package com.rajesh.wiremock.codec;
+
+/**
+ * Receives the fields of one movie at a time from {@link MovieJsonParser}. Fields that are
+ * absent or {@code null} in the JSON are not reported.
+ *
+ * @param <T> what a completed movie is turned into
+ */
+public interface MovieSink<T> {
+
+    void movieId(long movieId);
+
+    void name(String name);
+
+    void cast(String cast);
+
+    void year(int year);
+
+    void releaseDate(long epochDay);
+
+    /**
+     * Called when the closing brace of a movie is reached.
+     *
+     * @return the completed movie, or {@code null} if the sink keeps rows itself
+     */
+    T endMovie();
+}
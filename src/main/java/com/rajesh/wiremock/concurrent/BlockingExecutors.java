@@ -0,0 +1,44 @@
+package com.rajesh.wiremock.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for callers of the blocking {@link com.rajesh.wiremock.service.MoviesRestClient}.
+ * This is the Java 8 variant, which runs each task on a platform thread. On Java 21 and
+ * later the multi-release jar provides a variant from {@code src/main/java21} that starts a
+ * virtual thread per task, so a blocked call only parks a virtual thread.
+ */
+public final class BlockingExecutors {
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private BlockingExecutors(){
+    }
+
+    /**
+     * @return whether {@link #newPerTaskExecutor(String)} runs tasks on virtual threads
+     */
+    public static boolean virtualThreads(){
+        return false;
+    }
+
+    /**
+     * An executor that never queues: each task runs on an idle thread, or on a new one if
+     * none is idle. Threads are daemons named {@code namePrefix} plus a sequence number.
+     */
+    public static ExecutorService newPerTaskExecutor(String namePrefix){
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                task -> {
+                    Thread thread = new Thread(task, namePrefix + sequence.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -0,0 +1,243 @@
+package com.rajesh.wiremock.concurrent;
+
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs several blocking movie lookups concurrently and waits for all of them, for example
+ * a search by name and by year:
+ *
+ * <pre>{@code
+ * try (MovieLookupScope scope = factory.lookupScope()) {
+ *     MovieLookupScope.Subtask<List<Movie>> byName = scope.fork(() -> client.retrieveMoviesByName("Avengers"));
+ *     MovieLookupScope.Subtask<List<Movie>> byYear = scope.fork(() -> client.retrieveMoviesByYear(2012));
+ *     scope.join();
+ *     return merge(byName.get(), byYear.get());
+ * }
+ * }</pre>
+ *
+ * Semantics follow {@code StructuredTaskScope.ShutdownOnFailure}, which is still a preview
+ * API on Java 21: the first failed lookup interrupts the others, {@link #join()} rethrows
+ * that failure, and {@link #close()} interrupts whatever is still running and waits for
+ * those threads to finish, so no lookup outlives the scope. Interrupting a lookup cancels
+ * its HTTP request. A scope belongs to the thread that opened it; only the forked lookups
+ * run elsewhere.
+ */
+public final class MovieLookupScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Object lock = new Object();
+    private final List<Subtask<?>> subtasks = new ArrayList<>();
+    private int running;
+    private int executing;
+    private Throwable failure;
+    private boolean closed;
+
+    public MovieLookupScope(ExecutorService executor){
+        this.executor = executor;
+    }
+
+    /**
+     * Starts {@code lookup} on the scope's executor. Its result is available from the
+     * returned subtask once {@link #join()} has returned.
+     */
+    public <T> Subtask<T> fork(Callable<? extends T> lookup){
+        Subtask<T> subtask = new Subtask<>(lookup);
+        synchronized (lock){
+            if (closed){
+                throw new IllegalStateException("Scope is closed");
+            }
+            subtasks.add(subtask);
+            running++;
+            if (failure != null){
+                subtask.future.cancel(false);
+                return subtask;
+            }
+            executing++;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    subtask.future.run();
+                } finally {
+                    exited();
+                }
+            });
+        } catch (RejectedExecutionException ex){
+            subtask.future.cancel(false);
+            exited();
+            throw ex;
+        }
+        return subtask;
+    }
+
+    /**
+     * Waits until every forked lookup has completed, or until one of them fails.
+     *
+     * @throws MovieErrorResponse the first failure, as thrown by the blocking client
+     */
+    public void join() throws InterruptedException {
+        synchronized (lock){
+            while (running > 0 && failure == null){
+                lock.wait();
+            }
+        }
+        throwIfFailed();
+    }
+
+    /**
+     * As {@link #join()}, but gives up after {@code timeout}, interrupting the lookups that
+     * are still running and throwing a {@link MovieErrorResponse}.
+     */
+    public void join(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (lock){
+            while (running > 0 && failure == null){
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0){
+                    cancelAll();
+                    throw new MovieErrorResponse("Movie lookups did not complete within " + timeout.toMillis() + "ms");
+                }
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            }
+        }
+        throwIfFailed();
+    }
+
+    /**
+     * Interrupts any lookups that are still running and waits for their threads to return.
+     * Their subtasks report them as cancelled. If the closing thread is interrupted while
+     * waiting, it keeps waiting and its interrupt status is restored afterwards.
+     */
+    @Override
+    public void close(){
+        boolean interrupted = false;
+        synchronized (lock){
+            closed = true;
+            cancelAll();
+            while (executing > 0){
+                try {
+                    lock.wait();
+                } catch (InterruptedException ex){
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Called once the thread running a forked lookup is done with it, which for a
+     * cancelled lookup can be well after its subtask reported the cancellation.
+     */
+    private void exited(){
+        synchronized (lock){
+            executing--;
+            lock.notifyAll();
+        }
+    }
+
+    private void throwIfFailed(){
+        Throwable ex;
+        synchronized (lock){
+            ex = failure;
+        }
+        if (ex instanceof RuntimeException){
+            throw (RuntimeException) ex;
+        }
+        if (ex instanceof Error){
+            throw (Error) ex;
+        }
+        if (ex != null){
+            throw new MovieErrorResponse((Exception) ex);
+        }
+    }
+
+    private void onDone(Subtask<?> subtask){
+        synchronized (lock){
+            running--;
+            if (failure == null){
+                failure = subtask.failure();
+                if (failure != null){
+                    cancelAll();
+                }
+            }
+            lock.notifyAll();
+        }
+    }
+
+    private void cancelAll(){
+        for (Subtask<?> subtask : subtasks){
+            subtask.future.cancel(true);
+        }
+    }
+
+    /**
+     * The result of one forked lookup.
+     */
+    public final class Subtask<T> implements Supplier<T> {
+
+        private final FutureTask<T> future;
+
+        private Subtask(Callable<? extends T> lookup){
+            this.future = new FutureTask<T>(lookup::call){
+                @Override
+                protected void done(){
+                    onDone(Subtask.this);
+                }
+            };
+        }
+
+        /**
+         * @throws IllegalStateException if the lookup has not completed successfully
+         */
+        @Override
+        public T get(){
+            if (!future.isDone()){
+                throw new IllegalStateException("Lookup has not completed; call join() first");
+            }
+            if (future.isCancelled()){
+                throw new IllegalStateException("Lookup was cancelled");
+            }
+            try {
+                return future.get();
+            } catch (ExecutionException ex){
+                throw new IllegalStateException("Lookup failed", ex.getCause());
+            } catch (InterruptedException ex){
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        public boolean isCancelled(){
+            return future.isCancelled();
+        }
+
+        private Throwable failure(){
+            if (future.isCancelled()){
+                return null;
+            }
+            try {
+                future.get();
+                return null;
+            } catch (ExecutionException ex){
+                return ex.getCause();
+            } catch (CancellationException | InterruptedException ex){
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.rajesh.wiremock.config;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link com.rajesh.wiremock.service.AsyncMovieWriter}. A batch is sent once
+ * {@link #maxBatchSize} writes are queued or the oldest has waited {@link #maxBatchDelay},
+ * whichever comes first.
+ */
+@Getter
+@Builder
+public class AsyncWriterConfig {
+
+    /** Writes queued and not yet sent; submitting more blocks the caller. */
+    @Builder.Default
+    private final int queueCapacity = 1_000;
+
+    @Builder.Default
+    private final int maxBatchSize = 100;
+
+    @Builder.Default
+    private final Duration maxBatchDelay = Duration.ofMillis(20);
+
+    /** Requests of one batch in flight at once, each on its own pooled connection. */
+    @Builder.Default
+    private final int maxInFlight = 16;
+
+    /** How long a caller blocks for queue space before its write fails. */
+    @Builder.Default
+    private final Duration enqueueTimeout = Duration.ofSeconds(5);
+
+    public static AsyncWriterConfig defaults(){
+        return AsyncWriterConfig.builder().build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.rajesh.wiremock.config;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Per-endpoint circuit breaker settings. The breaker opens when, over the last
+ * {@link #slidingWindowSize} calls (and at least {@link #minimumCalls}), the share of
+ * failed calls reaches {@link #failureRateThreshold} or the share of calls slower than
+ * {@link #slowCallDuration} reaches {@link #slowCallRateThreshold}. After
+ * {@link #openDuration} it lets {@link #halfOpenCalls} probe calls through and closes again
+ * only if they are healthy.
+ */
+@Getter
+@Builder
+public class CircuitBreakerConfig {
+
+    @Builder.Default
+    private final int slidingWindowSize = 100;
+
+    @Builder.Default
+    private final int minimumCalls = 20;
+
+    @Builder.Default
+    private final double failureRateThreshold = 0.5;
+
+    @Builder.Default
+    private final double slowCallRateThreshold = 0.8;
+
+    @Builder.Default
+    private final Duration slowCallDuration = Duration.ofSeconds(2);
+
+    @Builder.Default
+    private final Duration openDuration = Duration.ofSeconds(10);
+
+    @Builder.Default
+    private final int halfOpenCalls = 5;
+
+    /** Concurrent calls allowed per endpoint; further calls are rejected immediately. */
+    @Builder.Default
+    private final int maxConcurrentCalls = 25;
+
+    public static CircuitBreakerConfig defaults(){
+        return CircuitBreakerConfig.builder().build();
+    }
+}
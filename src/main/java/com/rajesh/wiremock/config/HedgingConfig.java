@@ -0,0 +1,44 @@
+package com.rajesh.wiremock.config;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Hedged reads: if a read has not answered within the {@link #percentile} of recent
+ * latencies for its endpoint, a second identical request is sent and whichever answers
+ * first wins. The delay is clamped to {@link #minDelay}..{@link #maxDelay}, and
+ * {@link #initialDelay} is used until {@link #minSamples} latencies have been seen.
+ */
+@Getter
+@Builder
+public class HedgingConfig {
+
+    @Builder.Default
+    private final double percentile = 0.95;
+
+    @Builder.Default
+    private final Duration initialDelay = Duration.ofMillis(100);
+
+    @Builder.Default
+    private final Duration minDelay = Duration.ofMillis(5);
+
+    @Builder.Default
+    private final Duration maxDelay = Duration.ofSeconds(1);
+
+    @Builder.Default
+    private final int minSamples = 100;
+
+    /** Number of recent latencies the percentile is computed over. */
+    @Builder.Default
+    private final int windowSize = 1024;
+
+    /** Hedges allowed per request sent, so hedging stops when everything is slow. */
+    @Builder.Default
+    private final double maxHedgeRatio = 0.1;
+
+    public static HedgingConfig defaults(){
+        return HedgingConfig.builder().build();
+    }
+}
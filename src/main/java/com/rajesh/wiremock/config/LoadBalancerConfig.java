@@ -0,0 +1,46 @@
+package com.rajesh.wiremock.config;
+
+import com.rajesh.wiremock.loadbalancer.LoadBalancingStrategy;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Client-side load balancing across {@link #instances} of the movie service, each given as
+ * a base URL such as {@code http://movies-2:8081}, without a path. Requests keep their path
+ * and query and are sent to the instance picked by {@link #strategy}. An instance that fails
+ * {@link #consecutiveFailures} times in a row is ejected for {@link #baseEjectionTime},
+ * longer each time it is ejected again, but never more than {@link #maxEjectedFraction} of
+ * the instances at once.
+ */
+@Getter
+@Builder
+public class LoadBalancerConfig {
+
+    private final List<String> instances;
+
+    @Builder.Default
+    private final LoadBalancingStrategy strategy = LoadBalancingStrategy.powerOfTwoChoices();
+
+    /** Time constant of the peak latency EWMA; older samples lose weight over this period. */
+    @Builder.Default
+    private final Duration latencyDecay = Duration.ofSeconds(10);
+
+    @Builder.Default
+    private final int consecutiveFailures = 5;
+
+    @Builder.Default
+    private final Duration baseEjectionTime = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final Duration maxEjectionTime = Duration.ofMinutes(5);
+
+    @Builder.Default
+    private final double maxEjectedFraction = 0.5;
+
+    public static LoadBalancerConfig of(List<String> instances){
+        return LoadBalancerConfig.builder().instances(instances).build();
+    }
+}
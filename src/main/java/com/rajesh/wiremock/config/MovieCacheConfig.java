@@ -0,0 +1,31 @@
+package com.rajesh.wiremock.config;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link com.rajesh.wiremock.service.CachingMoviesRestClient}. Each cached
+ * operation gets its own cache bounded by {@link #maximumSize} and its own time-to-live.
+ */
+@Getter
+@Builder
+public class MovieCacheConfig {
+
+    @Builder.Default
+    private final long maximumSize = 10_000;
+
+    @Builder.Default
+    private final Duration movieByIdTtl = Duration.ofMinutes(5);
+
+    @Builder.Default
+    private final Duration moviesByNameTtl = Duration.ofMinutes(1);
+
+    @Builder.Default
+    private final Duration moviesByYearTtl = Duration.ofMinutes(1);
+
+    public static MovieCacheConfig defaults(){
+        return MovieCacheConfig.builder().build();
+    }
+}
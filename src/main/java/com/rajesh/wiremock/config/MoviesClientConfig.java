@@ -0,0 +1,98 @@
+package com.rajesh.wiremock.config;
+
+import com.rajesh.wiremock.exception.MovieErrorMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Connection settings used by {@link com.rajesh.wiremock.service.MoviesRestClientFactory}
+ * to build the reactor-netty {@code HttpClient} behind the {@code WebClient}.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class MoviesClientConfig {
+
+    private final String baseUrl;
+
+    @Builder.Default
+    private final String poolName = "movies-service";
+
+    /** Upper bound on open connections per remote address. */
+    @Builder.Default
+    private final int maxConnections = 50;
+
+    /**
+     * Requests allowed to wait for a connection once the pool is exhausted (with load
+     * balancing, once every instance's pool is); further requests fail fast.
+     */
+    @Builder.Default
+    private final int maxPendingAcquires = 500;
+
+    /** How long a request may wait for a pooled connection. */
+    @Builder.Default
+    private final Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    /** Pooled connections idle for longer than this are closed. */
+    @Builder.Default
+    private final Duration maxIdleTime = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(2);
+
+    /** Maximum time between bytes of a response before the request fails. */
+    @Builder.Default
+    private final Duration responseTimeout = Duration.ofSeconds(5);
+
+    @Builder.Default
+    private final boolean keepAlive = true;
+
+    @Builder.Default
+    private final boolean compression = false;
+
+    /** Use HTTP/2 over cleartext (h2c) instead of HTTP/1.1. */
+    @Builder.Default
+    private final boolean http2 = false;
+
+    /** Decode {@code Movie} bodies with the streaming {@code MovieJsonDecoder} instead of Jackson data binding. */
+    @Builder.Default
+    private final boolean fastMovieCodec = false;
+
+    /**
+     * Revalidate the all-movies, by-name and by-year lists with {@code If-None-Match} and
+     * {@code If-Modified-Since}, reusing the last result on {@code 304 Not Modified}. This
+     * holds up to {@link #conditionalGetMaxEntries} results in memory.
+     */
+    @Builder.Default
+    private final boolean conditionalGets = false;
+
+    @Builder.Default
+    private final long conditionalGetMaxEntries = 256;
+
+    /** How error responses become exceptions; the cheaper modes drop stack traces. */
+    @Builder.Default
+    private final MovieErrorMapper.Mode errorMode = MovieErrorMapper.Mode.FULL;
+
+    /** Hedged reads; {@code null} disables hedging. */
+    private final HedgingConfig hedging;
+
+    /** Retries of reads after transient failures; {@code null} disables retries. */
+    private final RetryConfig retry;
+
+    /** Circuit breaker and bulkhead per endpoint; {@code null} disables both. */
+    private final CircuitBreakerConfig circuitBreaker;
+
+    /**
+     * Spread requests over several instances instead of sending them all to
+     * {@link #baseUrl}, which may then be left out; {@code null} disables load balancing.
+     */
+    private final LoadBalancerConfig loadBalancer;
+
+    /** Per-phase tracing of sampled requests; {@code null} disables it and adds no hooks. */
+    private final TracingConfig tracing;
+
+    /** Registry for per-endpoint client metrics; {@code null} disables instrumentation. */
+    private final MeterRegistry meterRegistry;
+}
@@ -0,0 +1,39 @@
+package com.rajesh.wiremock.config;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Retries for reads that failed to connect, timed out or got a 5xx response. 4xx responses
+ * are never retried. The delay before retry {@code n} is {@code firstBackoff * 2^n}, capped
+ * at {@link #maxBackoff}, with up to {@link #jitter} of it randomised.
+ */
+@Getter
+@Builder
+public class RetryConfig {
+
+    @Builder.Default
+    private final int maxRetries = 2;
+
+    @Builder.Default
+    private final Duration firstBackoff = Duration.ofMillis(50);
+
+    @Builder.Default
+    private final Duration maxBackoff = Duration.ofSeconds(1);
+
+    @Builder.Default
+    private final double jitter = 0.5;
+
+    /**
+     * Retries allowed per request sent. During an outage retries stop once the budget is
+     * spent instead of multiplying the load on the service.
+     */
+    @Builder.Default
+    private final double retryBudgetRatio = 0.2;
+
+    public static RetryConfig defaults(){
+        return RetryConfig.builder().build();
+    }
+}
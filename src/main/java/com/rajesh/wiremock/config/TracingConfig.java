@@ -0,0 +1,29 @@
+package com.rajesh.wiremock.config;
+
+import com.rajesh.wiremock.tracing.RequestTraceExporter;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Per-phase request tracing: for a {@link #sampleRate} share of requests, records how long
+ * was spent waiting for a pooled connection, resolving and connecting (new connections
+ * only), writing the request, waiting for the first byte, reading the body and decoding it.
+ */
+@Getter
+@Builder
+public class TracingConfig {
+
+    /** Share of requests traced, from {@code 0} (none) to {@code 1} (all). */
+    @Builder.Default
+    private final double sampleRate = 0.01;
+
+    /**
+     * Receives each completed trace; {@code null} records phase timers in the client's
+     * meter registry.
+     */
+    private final RequestTraceExporter exporter;
+
+    public static TracingConfig defaults(){
+        return TracingConfig.builder().build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.rajesh.wiremock.constants;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * The movie service endpoints, named after their {@link MoviesAppConstants} URI templates.
+ * Used to tag per-endpoint metrics, resilience state and traces.
+ */
+public enum MovieEndpoint {
+
+    GET_ALL_MOVIES_V1(HttpMethod.GET, MoviesAppConstants.GET_ALL_MOVIES_V1, null, "retrieveAllMovies"),
+    GET_MOVIE_BY_ID(HttpMethod.GET, MoviesAppConstants.GET_MOVIE_BY_ID, null, "retrieveMovieById"),
+    GET_MOVIES_BY_NAME(HttpMethod.GET, MoviesAppConstants.GET_MOVIES_BY_NAME, "movie_name", "retrieveMoviesByName"),
+    GET_MOVIES_BY_YEAR(HttpMethod.GET, MoviesAppConstants.GET_MOVIES_BY_YEAR, "year", "retrieveMoviesByYear"),
+    ADD_MOVIE_V1(HttpMethod.POST, MoviesAppConstants.ADD_MOVIE_V1, null, "addMovie"),
+    UPDATE_MOVIE_V1(HttpMethod.PUT, MoviesAppConstants.UPDATE_MOVIE_V1, null, "updateMovie"),
+    DELETE_MOVIE_BY_ID_V1(HttpMethod.DELETE, MoviesAppConstants.DELETE_MOVIE_BY_ID_V1, null, "deleteMovie");
+
+    private final HttpMethod method;
+    private final String uriTemplate;
+    private final String queryParam;
+    private final String operation;
+
+    MovieEndpoint(HttpMethod method, String uriTemplate, String queryParam, String operation){
+        this.method = method;
+        this.uriTemplate = uriTemplate;
+        this.queryParam = queryParam;
+        this.operation = operation;
+    }
+
+    public HttpMethod getMethod(){
+        return method;
+    }
+
+    /**
+     * Whether the endpoint only reads, so sending it more than once is harmless.
+     */
+    public boolean isRead(){
+        return method == HttpMethod.GET;
+    }
+
+    public String getUriTemplate(){
+        return uriTemplate;
+    }
+
+    /**
+     * The single query parameter the endpoint takes, or {@code null} if it takes none.
+     */
+    public String getQueryParam(){
+        return queryParam;
+    }
+
+    /**
+     * Name of the client method that calls this endpoint.
+     */
+    public String getOperation(){
+        return operation;
+    }
+}
@@ -0,0 +1,41 @@
+package com.rajesh.wiremock.dto;
+
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk lookup. Movies and failures are both keyed by the requested id and
+ * kept in the order the ids were requested, so one failed id does not hide the others.
+ */
+@ToString
+public class MovieBatchResult {
+
+    private final Map<Integer, Movie> movies = new LinkedHashMap<>();
+    private final Map<Integer, MovieErrorResponse> failures = new LinkedHashMap<>();
+
+    public MovieBatchResult found(Integer movieId, Movie movie){
+        movies.put(movieId, movie);
+        return this;
+    }
+
+    public MovieBatchResult failed(Integer movieId, MovieErrorResponse error){
+        failures.put(movieId, error);
+        return this;
+    }
+
+    public Map<Integer, Movie> getMovies(){
+        return Collections.unmodifiableMap(movies);
+    }
+
+    public Map<Integer, MovieErrorResponse> getFailures(){
+        return Collections.unmodifiableMap(failures);
+    }
+
+    public boolean hasFailures(){
+        return !failures.isEmpty();
+    }
+}
@@ -0,0 +1,277 @@
+package com.rajesh.wiremock.dto;
+
+import com.rajesh.wiremock.codec.MovieSink;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Column-oriented, immutable list of movies. Ids, years and release dates (as epoch days)
+ * are held in primitive arrays, and each distinct {@code cast} string is stored once and
+ * referenced by index. The memory held per movie is a few array slots plus its name,
+ * rather than a {@link Movie} with four boxed or object fields. Rows are turned into
+ * {@code Movie}s only when asked for, by {@link #get(int)} or through {@link #asList()}.
+ * The {@code has*} and {@code *AsLong}/{@code *AsInt} accessors read single values without
+ * boxing or allocating.
+ *
+ * <p>Tables are built by {@link Builder}, which is a {@link MovieSink} the JSON parser
+ * writes to directly. Fields absent from the JSON read back as {@code null}.
+ */
+public final class MovieTable {
+
+    private static final long NO_ID = Long.MIN_VALUE;
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final int NO_CAST = -1;
+
+    private final int size;
+    private final long[] movieIds;
+    private final String[] names;
+    private final int[] castCodes;
+    private final String[] castDictionary;
+    private final int[] years;
+    private final int[] releaseDates;
+
+    private MovieTable(Builder builder){
+        this.size = builder.size;
+        this.movieIds = Arrays.copyOf(builder.movieIds, size);
+        this.names = Arrays.copyOf(builder.names, size);
+        this.castCodes = Arrays.copyOf(builder.castCodes, size);
+        this.castDictionary = Arrays.copyOf(builder.castDictionary, builder.castCount);
+        this.years = Arrays.copyOf(builder.years, size);
+        this.releaseDates = Arrays.copyOf(builder.releaseDates, size);
+    }
+
+    public static Builder builder(){
+        return new Builder();
+    }
+
+    public int size(){
+        return size;
+    }
+
+    /**
+     * @return distinct {@code cast} values; rows with the same cast share one string
+     */
+    public int distinctCastCount(){
+        return castDictionary.length;
+    }
+
+    public Long getMovieId(int row){
+        long movieId = movieIds[checkRow(row)];
+        return movieId == NO_ID ? null : movieId;
+    }
+
+    public String getName(int row){
+        return names[checkRow(row)];
+    }
+
+    public String getCast(int row){
+        int code = castCodes[checkRow(row)];
+        return code == NO_CAST ? null : castDictionary[code];
+    }
+
+    public Integer getYear(int row){
+        int year = years[checkRow(row)];
+        return year == NO_VALUE ? null : year;
+    }
+
+    public LocalDate getReleaseDate(int row){
+        int epochDay = releaseDates[checkRow(row)];
+        return epochDay == NO_VALUE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    public boolean hasMovieId(int row){
+        return movieIds[checkRow(row)] != NO_ID;
+    }
+
+    /**
+     * @throws NoSuchElementException if the row has no id; see {@link #hasMovieId(int)}
+     */
+    public long getMovieIdAsLong(int row){
+        long movieId = movieIds[checkRow(row)];
+        if (movieId == NO_ID){
+            throw new NoSuchElementException("Row " + row + " has no movie_id");
+        }
+        return movieId;
+    }
+
+    public boolean hasYear(int row){
+        return years[checkRow(row)] != NO_VALUE;
+    }
+
+    /**
+     * @throws NoSuchElementException if the row has no year; see {@link #hasYear(int)}
+     */
+    public int getYearAsInt(int row){
+        return present(years[checkRow(row)], row, "year");
+    }
+
+    public boolean hasReleaseDate(int row){
+        return releaseDates[checkRow(row)] != NO_VALUE;
+    }
+
+    /**
+     * @return the release date as days since 1970-01-01, as {@link LocalDate#toEpochDay()}
+     * @throws NoSuchElementException if the row has no release date; see
+     * {@link #hasReleaseDate(int)}
+     */
+    public int getReleaseEpochDay(int row){
+        return present(releaseDates[checkRow(row)], row, "release_date");
+    }
+
+    /**
+     * @return a new {@code Movie} with the values of {@code row}; changing it does not
+     * change the table
+     */
+    public Movie get(int row){
+        return new Movie(getMovieId(row), getName(row), getCast(row), getYear(row), getReleaseDate(row));
+    }
+
+    /**
+     * A read-only {@code List<Movie>} over the table that creates each element when it is
+     * read and keeps none of them, for code written against lists of movies.
+     */
+    public List<Movie> asList(){
+        return new MovieListView();
+    }
+
+    private static int present(int value, int row, String field){
+        if (value == NO_VALUE){
+            throw new NoSuchElementException("Row " + row + " has no " + field);
+        }
+        return value;
+    }
+
+    private int checkRow(int row){
+        if (row < 0 || row >= size){
+            throw new IndexOutOfBoundsException("Row " + row + ", size " + size);
+        }
+        return row;
+    }
+
+    private final class MovieListView extends AbstractList<Movie> implements RandomAccess {
+
+        @Override
+        public Movie get(int index){
+            return MovieTable.this.get(index);
+        }
+
+        @Override
+        public int size(){
+            return size;
+        }
+    }
+
+    /**
+     * Appends one row per movie reported by the parser. Not thread-safe.
+     */
+    public static final class Builder implements MovieSink<Void> {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private int size;
+        private long[] movieIds = new long[INITIAL_CAPACITY];
+        private String[] names = new String[INITIAL_CAPACITY];
+        private int[] castCodes = new int[INITIAL_CAPACITY];
+        private int[] years = new int[INITIAL_CAPACITY];
+        private int[] releaseDates = new int[INITIAL_CAPACITY];
+
+        private final Map<String, Integer> castIndex = new HashMap<>();
+        private String[] castDictionary = new String[INITIAL_CAPACITY];
+        private int castCount;
+
+        private Builder(){
+            clearRow();
+        }
+
+        @Override
+        public void movieId(long movieId){
+            movieIds[size] = movieId;
+        }
+
+        @Override
+        public void name(String name){
+            names[size] = name;
+        }
+
+        @Override
+        public void cast(String cast){
+            Integer code = castIndex.get(cast);
+            if (code == null){
+                if (castCount == castDictionary.length){
+                    castDictionary = Arrays.copyOf(castDictionary, castCount * 2);
+                }
+                code = castCount;
+                castDictionary[castCount++] = cast;
+                castIndex.put(cast, code);
+            }
+            castCodes[size] = code;
+        }
+
+        @Override
+        public void year(int year){
+            years[size] = year;
+        }
+
+        @Override
+        public void releaseDate(long epochDay){
+            releaseDates[size] = Math.toIntExact(epochDay);
+        }
+
+        @Override
+        public Void endMovie(){
+            size++;
+            if (size == movieIds.length){
+                int capacity = size * 2;
+                movieIds = Arrays.copyOf(movieIds, capacity);
+                names = Arrays.copyOf(names, capacity);
+                castCodes = Arrays.copyOf(castCodes, capacity);
+                years = Arrays.copyOf(years, capacity);
+                releaseDates = Arrays.copyOf(releaseDates, capacity);
+            }
+            clearRow();
+            return null;
+        }
+
+        /**
+         * Adds a row with the values of {@code movie}.
+         */
+        public Builder add(Movie movie){
+            if (movie.getMovie_id() != null){
+                movieId(movie.getMovie_id());
+            }
+            if (movie.getName() != null){
+                name(movie.getName());
+            }
+            if (movie.getCast() != null){
+                cast(movie.getCast());
+            }
+            if (movie.getYear() != null){
+                year(movie.getYear());
+            }
+            if (movie.getRelease_date() != null){
+                releaseDate(movie.getRelease_date().toEpochDay());
+            }
+            endMovie();
+            return this;
+        }
+
+        public MovieTable build(){
+            return new MovieTable(this);
+        }
+
+        private void clearRow(){
+            movieIds[size] = NO_ID;
+            names[size] = null;
+            castCodes[size] = NO_CAST;
+            years[size] = NO_VALUE;
+            releaseDates[size] = NO_VALUE;
+        }
+    }
+}
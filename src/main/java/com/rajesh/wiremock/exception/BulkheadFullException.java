@@ -0,0 +1,12 @@
+package com.rajesh.wiremock.exception;
+
+/**
+ * Thrown without calling the movie service because the endpoint already has its maximum
+ * number of calls in flight.
+ */
+public class BulkheadFullException extends MovieErrorResponse {
+
+    public BulkheadFullException(String operation, int maxConcurrentCalls){
+        super("Bulkhead is full for " + operation + " (" + maxConcurrentCalls + " concurrent calls)");
+    }
+}
@@ -0,0 +1,12 @@
+package com.rajesh.wiremock.exception;
+
+/**
+ * Thrown without calling the movie service because the circuit breaker for the endpoint is
+ * open.
+ */
+public class CircuitBreakerOpenException extends MovieErrorResponse {
+
+    public CircuitBreakerOpenException(String operation){
+        super("Circuit breaker is open for " + operation);
+    }
+}
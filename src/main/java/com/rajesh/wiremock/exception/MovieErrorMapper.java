@@ -0,0 +1,158 @@
+package com.rajesh.wiremock.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Turns failed calls into {@link MovieErrorResponse}s and logs them. Each operation logs at
+ * most {@value #LOG_PERMITS} error responses and {@value #LOG_PERMITS} other failures per
+ * second. Dropped messages are counted and reported with the next one logged, and an
+ * error body is only decoded if its message is actually logged.
+ */
+@Slf4j
+public class MovieErrorMapper {
+
+    /**
+     * How much an error response costs to turn into an exception.
+     */
+    public enum Mode {
+        /** Spring builds a {@link WebClientResponseException} for each error response, which is kept as the cause. */
+        FULL,
+        /** Error responses become stackless {@link MovieErrorResponse}s directly, with status and bounded body but no cause. */
+        STACKLESS,
+        /** As {@link #STACKLESS} for 5xx; each 4xx status maps to one shared, preallocated exception without a body. */
+        PREALLOCATED
+    }
+
+    private static final int LOG_PERMITS = 5;
+    private static final long LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Mode mode;
+    private final RateLimitedLogger responseLog;
+    private final RateLimitedLogger failureLog;
+    private final ConcurrentMap<Integer, MovieErrorResponse> preallocated = new ConcurrentHashMap<>();
+
+    public MovieErrorMapper(Mode mode){
+        this(mode, System::nanoTime);
+    }
+
+    MovieErrorMapper(Mode mode, LongSupplier nanoClock){
+        this.mode = mode;
+        this.responseLog = new RateLimitedLogger(LOG_PERMITS, LOG_INTERVAL_NANOS, nanoClock);
+        this.failureLog = new RateLimitedLogger(LOG_PERMITS, LOG_INTERVAL_NANOS, nanoClock);
+    }
+
+    public Mode getMode(){
+        return mode;
+    }
+
+    /**
+     * A {@code WebClient} filter that fails error responses with a {@link MovieErrorResponse}
+     * before {@code retrieve()} would build a {@link WebClientResponseException}. It does
+     * nothing in {@link Mode#FULL}. At most {@link MovieErrorResponse#MAX_BODY_BYTES} of the
+     * body are copied. The rest is released unread.
+     */
+    public ExchangeFilterFunction filter(){
+        return (request, next) -> next.exchange(request)
+                .flatMap(response -> mode == Mode.FULL || response.rawStatusCode() < 400
+                        ? Mono.just(response)
+                        : toError(response));
+    }
+
+    private Mono<ClientResponse> toError(ClientResponse response){
+        int status = response.rawStatusCode();
+        if (mode == Mode.PREALLOCATED && status < 500){
+            MovieErrorResponse error = preallocated.get(status);
+            if (error == null){
+                error = preallocated.computeIfAbsent(status, MovieErrorMapper::preallocate);
+            }
+            return response.body(BodyExtractors.toDataBuffers())
+                    .doOnNext(DataBufferUtils::release)
+                    .then(Mono.error(error));
+        }
+        Charset charset = response.headers().contentType()
+                .map(MediaType::getCharset)
+                .orElse(null);
+        return response.body(BodyExtractors.toDataBuffers())
+                .collect(ByteArrayOutputStream::new, MovieErrorMapper::appendBounded)
+                .flatMap(body -> Mono.error(new MovieErrorResponse(status + " " + reasonPhrase(status), null,
+                        status, reasonPhrase(status), body.toByteArray(), charset, false)));
+    }
+
+    private static MovieErrorResponse preallocate(int status){
+        return new MovieErrorResponse(status + " " + reasonPhrase(status), null,
+                status, reasonPhrase(status), null, null, false);
+    }
+
+    private static void appendBounded(ByteArrayOutputStream body, DataBuffer buffer){
+        try {
+            int length = Math.min(buffer.readableByteCount(), MovieErrorResponse.MAX_BODY_BYTES - body.size());
+            if (length > 0){
+                byte[] bytes = new byte[length];
+                buffer.read(bytes);
+                body.write(bytes, 0, length);
+            }
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static String reasonPhrase(int status){
+        HttpStatus httpStatus = HttpStatus.resolve(status);
+        return httpStatus == null ? "" : httpStatus.getReasonPhrase();
+    }
+
+    /**
+     * Maps any failure of {@code operation} to a {@link MovieErrorResponse}, logging it if
+     * the rate limit allows.
+     */
+    public MovieErrorResponse map(String operation, Throwable ex){
+        MovieErrorResponse error;
+        if (ex instanceof MovieErrorResponse){
+            error = (MovieErrorResponse) ex;
+        } else if (ex instanceof WebClientResponseException){
+            error = new MovieErrorResponse(((WebClientResponseException) ex).getStatusText(), (WebClientResponseException) ex);
+        } else {
+            error = new MovieErrorResponse(ex instanceof Exception ? (Exception) ex : new RuntimeException(ex));
+        }
+        log(operation, error);
+        return error;
+    }
+
+    private void log(String operation, MovieErrorResponse error){
+        if (error.getStatusCode() > 0){
+            long dropped = responseLog.acquire(operation);
+            if (dropped != RateLimitedLogger.DENIED){
+                log.error("Error response in {}. Status code is {} and message is {} ({} similar messages dropped)",
+                        operation,
+                        error.getStatusCode(),
+                        error.getResponseBody(),
+                        dropped);
+            }
+            return;
+        }
+        long dropped = failureLog.acquire(operation);
+        if (dropped != RateLimitedLogger.DENIED){
+            Throwable cause = error.getCause() == null ? error : error.getCause();
+            log.error("Exception in {}. Message is {} ({} similar messages dropped)",
+                    operation,
+                    cause.getMessage(),
+                    dropped);
+        }
+    }
+}
@@ -1,14 +1,90 @@
 package com.rajesh.wiremock.exception;
 
+import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A failed call to the movie service. When the service answered, the status and up to
+ * {@link #MAX_BODY_BYTES} of the error body are kept. The body is held as bytes and only
+ * decoded if {@link #getResponseBody()} is called.
+ */
 public class MovieErrorResponse extends RuntimeException{
 
+    /** Error bodies longer than this are truncated. */
+    public static final int MAX_BODY_BYTES = 1024;
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    private final int statusCode;
+    private final String statusText;
+    private final byte[] responseBody;
+    private final Charset charset;
+
     public MovieErrorResponse(String statusText, WebClientResponseException ex){
-        super();
+        this(ex.getRawStatusCode() + " " + statusText, ex, ex.getRawStatusCode(), statusText,
+                ex.getResponseBodyAsByteArray(), charsetOf(ex), true);
     }
 
     public MovieErrorResponse(Exception ex) {
-        super();
+        this(ex.toString(), ex, 0, null, null, null, true);
+    }
+
+    public MovieErrorResponse(String message) {
+        this(message, null, 0, null, null, null, true);
+    }
+
+    /**
+     * @param writableStackTrace {@code false} for a stackless exception, which costs no stack
+     *                           walk and can be shared between threads
+     */
+    protected MovieErrorResponse(String message, Throwable cause, int statusCode, String statusText,
+                                 byte[] responseBody, Charset charset, boolean writableStackTrace){
+        super(message, cause, writableStackTrace, writableStackTrace);
+        this.statusCode = statusCode;
+        this.statusText = statusText;
+        this.responseBody = bounded(responseBody);
+        this.charset = charset == null ? StandardCharsets.UTF_8 : charset;
+    }
+
+    /**
+     * @return the HTTP status of the response, or {@code 0} if the service did not answer
+     */
+    public int getStatusCode(){
+        return statusCode;
+    }
+
+    public String getStatusText(){
+        return statusText;
+    }
+
+    public boolean isClientError(){
+        return statusCode >= 400 && statusCode < 500;
+    }
+
+    /**
+     * @return the (possibly truncated) error body, or an empty string if there was none
+     */
+    public String getResponseBody(){
+        return new String(responseBody, charset);
+    }
+
+    public byte[] getResponseBodyAsByteArray(){
+        return responseBody.clone();
+    }
+
+    private static byte[] bounded(byte[] body){
+        if (body == null || body.length == 0){
+            return NO_BODY;
+        }
+        return body.length > MAX_BODY_BYTES ? Arrays.copyOf(body, MAX_BODY_BYTES) : body;
+    }
+
+    private static Charset charsetOf(WebClientResponseException ex){
+        MediaType contentType = ex.getHeaders().getContentType();
+        return contentType == null ? null : contentType.getCharset();
     }
 }
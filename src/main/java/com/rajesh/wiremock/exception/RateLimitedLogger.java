@@ -0,0 +1,63 @@
+package com.rajesh.wiremock.exception;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether a log statement may be written, allowing at most {@code permits} per key
+ * in each interval. Callers check {@link #acquire(Object)} before formatting anything, so a
+ * dropped message costs one map lookup.
+ */
+class RateLimitedLogger {
+
+    static final long DENIED = -1;
+
+    private final int permits;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<Object, Window> windows = new ConcurrentHashMap<>();
+
+    RateLimitedLogger(int permits, long intervalNanos, LongSupplier nanoClock){
+        this.permits = permits;
+        this.intervalNanos = intervalNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return {@link #DENIED} if the message must be dropped, otherwise how many messages
+     * with this key were dropped since the last one was allowed
+     */
+    long acquire(Object key){
+        long now = nanoClock.getAsLong();
+        Window window = windows.get(key);
+        if (window == null){
+            window = windows.computeIfAbsent(key, k -> new Window(now));
+        }
+        synchronized (window){
+            if (now - window.start >= intervalNanos){
+                window.start = now;
+                window.used = 0;
+            }
+            if (window.used >= permits){
+                window.dropped++;
+                return DENIED;
+            }
+            window.used++;
+            long dropped = window.dropped;
+            window.dropped = 0;
+            return dropped;
+        }
+    }
+
+    private static final class Window {
+        private long start;
+        private int used;
+        private long dropped;
+
+        private Window(long start){
+            this.start = start;
+        }
+    }
+}
+
@@ -0,0 +1,162 @@
+package com.rajesh.wiremock.http;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The last validators ({@code ETag} and {@code Last-Modified}) and decoded result of each
+ * revalidated GET, keyed by request. Requests carry them back as {@code If-None-Match} and
+ * {@code If-Modified-Since}. When the service answers {@code 304 Not Modified}, the stored
+ * result is reused without downloading or decoding the body.
+ */
+public class ConditionalGetCache {
+
+    private static final Consumer<HttpHeaders> NO_CONDITIONS = headers -> { };
+    private static final byte[] NO_BODY = new byte[0];
+
+    private final Cache<String, Validated<?>> entries;
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder modified = new LongAdder();
+
+    public ConditionalGetCache(long maximumSize){
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Sends the request built by {@code request}, conditional on the result stored for
+     * {@code key}. A {@code 304} replays the stored result. Any other success is decoded
+     * in full, stored if it carries a validator, and then emitted, so elements are not
+     * streamed while the body arrives. Error responses fail with a
+     * {@link WebClientResponseException}, as {@code retrieve()} would, and so does a
+     * {@code 304} when nothing was stored and the request carried no validators.
+     */
+    public <T> Flux<T> retrieve(String key, Supplier<? extends WebClient.RequestHeadersSpec<?>> request,
+                                Class<T> elementType){
+        return Flux.defer(() -> {
+            Validated<List<T>> cached = get(key);
+            return request.get()
+                    .headers(cached == null ? NO_CONDITIONS : cached.conditions())
+                    .exchange()
+                    .flatMapMany(response -> {
+                        int status = response.rawStatusCode();
+                        if (status == HttpStatus.NOT_MODIFIED.value() && cached != null){
+                            notModified.increment();
+                            return response.body(BodyExtractors.toDataBuffers())
+                                    .doOnNext(DataBufferUtils::release)
+                                    .thenMany(Flux.fromIterable(cached.getValue()));
+                        }
+                        if (status >= 400 || status == HttpStatus.NOT_MODIFIED.value()){
+                            return response.bodyToMono(byte[].class)
+                                    .defaultIfEmpty(NO_BODY)
+                                    .flatMapMany(body -> Flux.error(responseException(response, body)));
+                        }
+                        return response.bodyToFlux(elementType)
+                                .collectList()
+                                .doOnNext(value -> put(key, response.headers().asHttpHeaders(), value))
+                                .flatMapIterable(value -> value);
+                    });
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Validated<List<T>> get(String key){
+        return (Validated<List<T>>) entries.getIfPresent(key);
+    }
+
+    private <T> void put(String key, HttpHeaders responseHeaders, List<T> value){
+        modified.increment();
+        String etag = responseHeaders.getETag();
+        String lastModified = responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED);
+        if (etag == null && lastModified == null){
+            entries.invalidate(key);
+        } else {
+            entries.put(key, new Validated<>(etag, lastModified, Collections.unmodifiableList(value)));
+        }
+    }
+
+    private static WebClientResponseException responseException(ClientResponse response, byte[] body){
+        int status = response.rawStatusCode();
+        HttpStatus httpStatus = HttpStatus.resolve(status);
+        Charset charset = response.headers().contentType()
+                .map(MediaType::getCharset)
+                .orElse(StandardCharsets.ISO_8859_1);
+        return WebClientResponseException.create(status,
+                httpStatus == null ? "" : httpStatus.getReasonPhrase(),
+                response.headers().asHttpHeaders(), body, charset);
+    }
+
+    /**
+     * @return how many revalidations were answered with {@code 304 Not Modified}
+     */
+    public long notModifiedCount(){
+        return notModified.sum();
+    }
+
+    /**
+     * @return how many requests returned (and decoded) a full body
+     */
+    public long modifiedCount(){
+        return modified.sum();
+    }
+
+    public void invalidateAll(){
+        entries.invalidateAll();
+    }
+
+    /**
+     * A decoded result and the validators it was served with.
+     */
+    private static final class Validated<T> {
+
+        private final String etag;
+        private final String lastModified;
+        private final T value;
+        private final Consumer<HttpHeaders> conditions;
+
+        private Validated(String etag, String lastModified, T value){
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.value = value;
+            this.conditions = this::addConditions;
+        }
+
+        T getValue(){
+            return value;
+        }
+
+        /**
+         * Adds {@code If-None-Match} and {@code If-Modified-Since} for the stored validators.
+         */
+        Consumer<HttpHeaders> conditions(){
+            return conditions;
+        }
+
+        private void addConditions(HttpHeaders headers){
+            if (etag != null){
+                headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+            }
+            if (lastModified != null){
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.rajesh.wiremock.http;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live view of a connection pool. reactor-netty 0.8 does not publish pool metrics, so the
+ * numbers are derived from client lifecycle callbacks: a connection is <em>active</em> while
+ * a request is running on it, <em>idle</em> while it is open and unused, and a request is
+ * <em>pending</em> while it waits for a connection. The numbers cover every pool the client
+ * uses, one per remote address.
+ */
+public class ConnectionPoolStats {
+
+    static final AttributeKey<Boolean> IN_USE = AttributeKey.valueOf("movies.connection.inUse");
+
+    private final int maxConnections;
+    private final Set<Channel> openChannels = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * @param maxConnections connections the client may open in total, across all its pools
+     */
+    public ConnectionPoolStats(int maxConnections){
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnections(){
+        return maxConnections;
+    }
+
+    public int getActive(){
+        return active.get();
+    }
+
+    public int getIdle(){
+        return Math.max(0, openChannels.size() - active.get());
+    }
+
+    public int getPending(){
+        return pending.get();
+    }
+
+    public int getOpen(){
+        return openChannels.size();
+    }
+
+    int acquireStarted(){
+        return pending.incrementAndGet();
+    }
+
+    void acquireFinished(){
+        pending.decrementAndGet();
+    }
+
+    void requestStarted(Channel channel){
+        if (openChannels.add(channel)){
+            channel.closeFuture().addListener(future -> {
+                openChannels.remove(channel);
+                requestFinished(channel);
+            });
+        }
+        if (!Boolean.TRUE.equals(channel.attr(IN_USE).getAndSet(Boolean.TRUE))){
+            active.incrementAndGet();
+        }
+    }
+
+    void requestFinished(Channel channel){
+        if (Boolean.TRUE.equals(channel.attr(IN_USE).getAndSet(Boolean.FALSE))){
+            active.decrementAndGet();
+        }
+    }
+
+    @Override
+    public String toString(){
+        return "ConnectionPoolStats{active=" + getActive()
+                + ", idle=" + getIdle()
+                + ", pending=" + getPending()
+                + ", max=" + maxConnections + "}";
+    }
+}
@@ -0,0 +1,31 @@
+package com.rajesh.wiremock.http;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closes a pooled connection that has seen no traffic for the configured time while it is
+ * parked in the pool. Connections that are serving a request are left to the response
+ * timeout instead.
+ */
+@Slf4j
+class IdleConnectionEvictor extends IdleStateHandler {
+
+    static final String NAME = "movies.idleEvictor";
+
+    IdleConnectionEvictor(long maxIdleTimeMillis){
+        super(0, 0, maxIdleTimeMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void channelIdle(ChannelHandlerContext ctx, IdleStateEvent evt){
+        if (!Boolean.TRUE.equals(ctx.channel().attr(ConnectionPoolStats.IN_USE).get())){
+            log.debug("Closing idle pooled connection {}", ctx.channel());
+            ctx.close();
+        }
+    }
+}
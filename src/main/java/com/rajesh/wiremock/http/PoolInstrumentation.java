@@ -0,0 +1,62 @@
+package com.rajesh.wiremock.http;
+
+import io.netty.channel.ChannelPipeline;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hooks that feed {@link ConnectionPoolStats}, evict idle connections and bound the number
+ * of requests queued for a connection.
+ */
+public final class PoolInstrumentation {
+
+    private static final String ACQUIRED = "movies.connection.acquired";
+
+    private PoolInstrumentation(){
+    }
+
+    public static HttpClient instrument(HttpClient httpClient, ConnectionPoolStats stats, Duration maxIdleTime){
+        long maxIdleTimeMillis = maxIdleTime.toMillis();
+        return httpClient
+                .tcpConfiguration(tcpClient -> tcpClient.doOnConnected(connection -> {
+                    ChannelPipeline pipeline = connection.channel().pipeline();
+                    if (maxIdleTimeMillis > 0 && pipeline.get(IdleConnectionEvictor.NAME) == null){
+                        pipeline.addFirst(IdleConnectionEvictor.NAME, new IdleConnectionEvictor(maxIdleTimeMillis));
+                    }
+                }))
+                .doOnRequest((request, connection) -> {
+                    AtomicBoolean acquired = request.currentContext().getOrDefault(ACQUIRED, null);
+                    if (acquired != null && acquired.compareAndSet(false, true)){
+                        stats.acquireFinished();
+                    }
+                    stats.requestStarted(connection.channel());
+                })
+                .doAfterResponse((response, connection) -> stats.requestFinished(connection.channel()));
+    }
+
+    /**
+     * Counts requests waiting for a connection and rejects new ones while every pool is fully
+     * in use and {@code maxPendingAcquires} requests are already waiting.
+     */
+    public static ExchangeFilterFunction pendingAcquireLimit(ConnectionPoolStats stats, int maxPendingAcquires){
+        return (request, next) -> Mono.defer(() -> {
+            AtomicBoolean acquired = new AtomicBoolean();
+            if (stats.acquireStarted() > maxPendingAcquires && stats.getActive() >= stats.getMaxConnections()){
+                stats.acquireFinished();
+                return Mono.error(new IllegalStateException("Pending acquire queue has reached its maximum size of "
+                        + maxPendingAcquires));
+            }
+            return next.exchange(request)
+                    .doFinally(signal -> {
+                        if (acquired.compareAndSet(false, true)){
+                            stats.acquireFinished();
+                        }
+                    })
+                    .subscriberContext(context -> context.put(ACQUIRED, acquired));
+        });
+    }
+}
@@ -0,0 +1,118 @@
+package com.rajesh.wiremock.http;
+
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * A {@link MovieEndpoint} URI template compiled once against a base URL. Expanding it
+ * only concatenates the precomputed literal parts with the encoded value, instead of
+ * parsing the template through {@code UriComponentsBuilder} on every call. An endpoint
+ * takes at most one value: either a path variable or its
+ * {@linkplain MovieEndpoint#getQueryParam() query parameter}. The request headers are
+ * built once as well.
+ */
+public final class RequestTemplate {
+
+    private final MovieEndpoint endpoint;
+    private final String prefix;
+    private final String suffix;
+    private final URI fixedUri;
+    private final HttpHeaders headers;
+    private final Consumer<HttpHeaders> headersInitializer;
+
+    private RequestTemplate(MovieEndpoint endpoint, String prefix, String suffix, HttpHeaders headers){
+        this.endpoint = endpoint;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.fixedUri = suffix == null ? URI.create(prefix) : null;
+        this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        this.headersInitializer = requestHeaders -> requestHeaders.putAll(this.headers);
+    }
+
+    /**
+     * @param baseUrl scheme, host and port of the movie service, e.g. {@code http://localhost:8081}
+     * @param headers sent with every request to the endpoint
+     * @throws IllegalArgumentException if the endpoint's template has more than one variable
+     */
+    public static RequestTemplate compile(String baseUrl, MovieEndpoint endpoint, HttpHeaders headers){
+        String base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        String template = endpoint.getUriTemplate();
+        int open = template.indexOf('{');
+        if (open < 0){
+            return endpoint.getQueryParam() == null
+                    ? new RequestTemplate(endpoint, base + template, null, headers)
+                    : new RequestTemplate(endpoint, base + template + "?" + endpoint.getQueryParam() + "=", "", headers);
+        }
+        int close = template.indexOf('}', open);
+        if (close < 0 || template.indexOf('{', close) >= 0 || endpoint.getQueryParam() != null){
+            throw new IllegalArgumentException("Expected at most one variable in " + template);
+        }
+        return new RequestTemplate(endpoint, base + template.substring(0, open), template.substring(close + 1), headers);
+    }
+
+    public MovieEndpoint getEndpoint(){
+        return endpoint;
+    }
+
+    /**
+     * @return the URI of an endpoint that takes no value
+     */
+    public URI expand(){
+        if (fixedUri == null){
+            throw new IllegalStateException(endpoint + " takes a value");
+        }
+        return fixedUri;
+    }
+
+    /**
+     * @return the URI with {@code value} encoded as the path variable or query value
+     */
+    public URI expand(Object value){
+        if (fixedUri != null){
+            throw new IllegalStateException(endpoint + " takes no value");
+        }
+        String raw = String.valueOf(value);
+        StringBuilder uri = new StringBuilder(prefix.length() + raw.length() + suffix.length() + 8)
+                .append(prefix);
+        if (isUnreserved(raw)){
+            uri.append(raw);
+        } else if (endpoint.getQueryParam() != null){
+            uri.append(UriUtils.encodeQueryParam(raw, StandardCharsets.UTF_8));
+        } else {
+            uri.append(UriUtils.encodePathSegment(raw, StandardCharsets.UTF_8));
+        }
+        return URI.create(uri.append(suffix).toString());
+    }
+
+    public HttpHeaders getHeaders(){
+        return headers;
+    }
+
+    /**
+     * For {@code RequestHeadersSpec.headers(...)}; copies {@link #getHeaders()} into the request.
+     */
+    public Consumer<HttpHeaders> headersInitializer(){
+        return headersInitializer;
+    }
+
+    /**
+     * Characters that never need encoding anywhere in a URI (RFC 3986 section 2.3), which
+     * covers ids, years and most names.
+     */
+    private static boolean isUnreserved(String value){
+        for (int i = 0; i < value.length(); i++){
+            char c = value.charAt(i);
+            boolean unreserved = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '.' || c == '_' || c == '~';
+            if (!unreserved){
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,184 @@
+package com.rajesh.wiremock.index;
+
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.service.ReactiveMoviesRestClient;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An in-memory replica of the movie catalogue for answering by-year and by-name queries
+ * without a network call. Readers see one immutable {@link MovieIndexSnapshot}; a refresh
+ * or a local write builds a new one and swaps it in atomically, so reads never lock or
+ * see a half-built index.
+ *
+ * <p>A refresh fetches the catalogue with {@code retrieveAllMovies()}. It only rebuilds the
+ * indexes if a movie was added, removed or changed. With conditional GETs enabled on the
+ * client, an unchanged catalogue costs a {@code 304} and a comparison.
+ */
+@Slf4j
+public class MovieIndex implements AutoCloseable {
+
+    private static final int MAX_REFRESH_ATTEMPTS = 3;
+
+    private final ReactiveMoviesRestClient client;
+    private final AtomicReference<MovieIndexSnapshot> snapshot = new AtomicReference<>(MovieIndexSnapshot.EMPTY);
+    private volatile boolean ready;
+    private volatile Disposable refreshes;
+
+    public MovieIndex(ReactiveMoviesRestClient client){
+        this.client = client;
+    }
+
+    /**
+     * Loads the catalogue, waiting for it, then refreshes it every {@code refreshInterval}
+     * in the background. A failed refresh is logged and the previous snapshot kept.
+     */
+    public MovieIndex start(Duration refreshInterval){
+        refresh().block();
+        refreshes = Flux.interval(refreshInterval, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(ex -> {
+                            log.warn("Movie index refresh failed, keeping {} movies: {}", size(), ex.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+        return this;
+    }
+
+    /**
+     * Fetches the catalogue and swaps in a new snapshot if it changed. If a local write
+     * lands while the catalogue is in flight, the response may predate it, so the
+     * catalogue is fetched again rather than overwriting the write; after
+     * {@value #MAX_REFRESH_ATTEMPTS} attempts the refresh gives up and the next one retries.
+     *
+     * @return whether the snapshot was replaced
+     */
+    public Mono<Boolean> refresh(){
+        return refresh(1);
+    }
+
+    private Mono<Boolean> refresh(int attempt){
+        return Mono.defer(() -> {
+            MovieIndexSnapshot expected = snapshot.get();
+            return client.retrieveAllMovies()
+                    .collectList()
+                    .flatMap(movies -> {
+                        Boolean replaced = replaceIfChanged(expected, movies);
+                        if (replaced != null){
+                            return Mono.just(replaced);
+                        }
+                        if (attempt < MAX_REFRESH_ATTEMPTS){
+                            return refresh(attempt + 1);
+                        }
+                        log.warn("Movie index refresh kept losing to local writes, keeping {} movies", size());
+                        return Mono.just(false);
+                    });
+        });
+    }
+
+    /**
+     * @return whether the snapshot was replaced, or {@code null} if a local write replaced
+     * {@code expected} while the catalogue was fetched
+     */
+    private Boolean replaceIfChanged(MovieIndexSnapshot expected, List<Movie> movies){
+        boolean changed = !ready || !sameCatalogue(expected, movies);
+        if (changed && !snapshot.compareAndSet(expected, MovieIndexSnapshot.build(movies))){
+            return null;
+        }
+        ready = true;
+        return changed;
+    }
+
+    private static boolean sameCatalogue(MovieIndexSnapshot current, List<Movie> movies){
+        if (current.size() != movies.size()){
+            return false;
+        }
+        for (Movie movie : movies){
+            if (movie.getMovie_id() == null || !movie.equals(current.movieById(movie.getMovie_id()))){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds or replaces a movie written through this client, ahead of the next refresh.
+     */
+    public void upsert(Movie movie){
+        if (movie.getMovie_id() == null){
+            return;
+        }
+        snapshot.updateAndGet(current -> {
+            List<Movie> movies = without(current, movie.getMovie_id());
+            movies.add(movie);
+            return MovieIndexSnapshot.build(movies);
+        });
+    }
+
+    public void remove(Long movieId){
+        snapshot.updateAndGet(current -> current.movieById(movieId) == null
+                ? current
+                : MovieIndexSnapshot.build(without(current, movieId)));
+    }
+
+    private static List<Movie> without(MovieIndexSnapshot current, Long movieId){
+        List<Movie> movies = new ArrayList<>(current.size() + 1);
+        for (Movie movie : current.movies()){
+            if (!movieId.equals(movie.getMovie_id())){
+                movies.add(movie);
+            }
+        }
+        return movies;
+    }
+
+    /**
+     * @return whether the catalogue has been loaded at least once
+     */
+    public boolean isReady(){
+        return ready;
+    }
+
+    public int size(){
+        return snapshot.get().size();
+    }
+
+    public Movie movieById(Long movieId){
+        return snapshot.get().movieById(movieId);
+    }
+
+    /**
+     * @return the movies released in {@code year}, in id order; empty if there are none
+     */
+    public List<Movie> moviesByYear(int year){
+        return snapshot.get().moviesByYear(year);
+    }
+
+    /**
+     * Each word of {@code name} must be the start of a word in the movie's name, ignoring
+     * case and punctuation: "avengers" and "Dark Kni" both match.
+     *
+     * @return the matching movies, in id order; empty if there are none
+     */
+    public List<Movie> moviesByName(String name){
+        return snapshot.get().moviesByName(name);
+    }
+
+    /**
+     * Stops the background refresh.
+     */
+    @Override
+    public void close(){
+        Disposable current = refreshes;
+        if (current != null){
+            current.dispose();
+        }
+    }
+}
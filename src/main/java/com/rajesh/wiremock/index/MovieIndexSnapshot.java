@@ -0,0 +1,201 @@
+package com.rajesh.wiremock.index;
+
+import com.rajesh.wiremock.dto.Movie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable view of the catalogue with two secondary indexes. Movies are held once, in
+ * an array ordered by id; both indexes refer to them by position in that array.
+ * <ul>
+ *     <li>Year: a sorted {@code int[]} of years, with a parallel array of positions, so a
+ *     year is two binary searches and a copy of its range.</li>
+ *     <li>Name: the sorted, distinct lower-cased name tokens, each with a sorted posting
+ *     list of positions. A query token matches every index token it is a prefix of.</li>
+ * </ul>
+ */
+final class MovieIndexSnapshot {
+
+    static final MovieIndexSnapshot EMPTY = build(Collections.emptyList());
+
+    private static final Comparator<Movie> BY_ID = Comparator.comparing(Movie::getMovie_id,
+            Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Movie[] movies;
+    private final Map<Long, Movie> moviesById;
+    private final int[] years;
+    private final int[] yearPositions;
+    private final String[] tokens;
+    private final int[][] postings;
+
+    private MovieIndexSnapshot(Movie[] movies, Map<Long, Movie> moviesById, int[] years, int[] yearPositions,
+                               String[] tokens, int[][] postings){
+        this.movies = movies;
+        this.moviesById = moviesById;
+        this.years = years;
+        this.yearPositions = yearPositions;
+        this.tokens = tokens;
+        this.postings = postings;
+    }
+
+    static MovieIndexSnapshot build(Collection<Movie> catalogue){
+        Movie[] movies = catalogue.toArray(new Movie[0]);
+        Arrays.sort(movies, BY_ID);
+
+        Map<Long, Movie> moviesById = new HashMap<>(movies.length * 2);
+        List<Integer> dated = new ArrayList<>();
+        TreeMap<String, List<Integer>> tokenPositions = new TreeMap<>();
+        for (int position = 0; position < movies.length; position++){
+            Movie movie = movies[position];
+            if (movie.getMovie_id() != null){
+                moviesById.put(movie.getMovie_id(), movie);
+            }
+            if (movie.getYear() != null){
+                dated.add(position);
+            }
+            for (String token : tokenize(movie.getName())){
+                List<Integer> positions = tokenPositions.computeIfAbsent(token, t -> new ArrayList<>());
+                if (positions.isEmpty() || positions.get(positions.size() - 1) != position){
+                    positions.add(position);
+                }
+            }
+        }
+
+        // stable sort keeps id order within a year
+        dated.sort(Comparator.comparing(position -> movies[position].getYear()));
+        int[] years = new int[dated.size()];
+        int[] yearPositions = new int[dated.size()];
+        for (int i = 0; i < dated.size(); i++){
+            yearPositions[i] = dated.get(i);
+            years[i] = movies[yearPositions[i]].getYear();
+        }
+
+        String[] tokens = tokenPositions.keySet().toArray(new String[0]);
+        int[][] postings = new int[tokens.length][];
+        int t = 0;
+        for (List<Integer> positions : tokenPositions.values()){
+            postings[t++] = positions.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new MovieIndexSnapshot(movies, moviesById, years, yearPositions, tokens, postings);
+    }
+
+    int size(){
+        return movies.length;
+    }
+
+    List<Movie> movies(){
+        return Collections.unmodifiableList(Arrays.asList(movies));
+    }
+
+    Movie movieById(Long movieId){
+        return moviesById.get(movieId);
+    }
+
+    /**
+     * @return the movies released in {@code year}, in id order
+     */
+    List<Movie> moviesByYear(int year){
+        int from = lowerBound(years, year);
+        int to = lowerBound(years, year + 1);
+        if (from == to){
+            return Collections.emptyList();
+        }
+        Movie[] result = new Movie[to - from];
+        for (int i = from; i < to; i++){
+            result[i - from] = movies[yearPositions[i]];
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * @return the movies whose name has, for every token of {@code query}, a token starting
+     * with it; in id order. "dark kni" matches "The Dark Knight Rises".
+     */
+    List<Movie> moviesByName(String query){
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()){
+            return Collections.emptyList();
+        }
+        BitSet matches = null;
+        for (String queryToken : queryTokens){
+            BitSet tokenMatches = new BitSet(movies.length);
+            for (int t = lowerBound(tokens, queryToken); t < tokens.length && tokens[t].startsWith(queryToken); t++){
+                for (int position : postings[t]){
+                    tokenMatches.set(position);
+                }
+            }
+            if (matches == null){
+                matches = tokenMatches;
+            } else {
+                matches.and(tokenMatches);
+            }
+            if (matches.isEmpty()){
+                return Collections.emptyList();
+            }
+        }
+        List<Movie> result = new ArrayList<>(matches.cardinality());
+        for (int position = matches.nextSetBit(0); position >= 0; position = matches.nextSetBit(position + 1)){
+            result.add(movies[position]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Lower-cased runs of letters and digits.
+     */
+    static List<String> tokenize(String name){
+        if (name == null){
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>(4);
+        int start = -1;
+        for (int i = 0; i <= name.length(); i++){
+            boolean letterOrDigit = i < name.length() && Character.isLetterOrDigit(name.charAt(i));
+            if (letterOrDigit && start < 0){
+                start = i;
+            } else if (!letterOrDigit && start >= 0){
+                tokens.add(name.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static int lowerBound(int[] sorted, int key){
+        int low = 0;
+        int high = sorted.length;
+        while (low < high){
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key){
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(String[] sorted, String key){
+        int low = 0;
+        int high = sorted.length;
+        while (low < high){
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].compareTo(key) < 0){
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
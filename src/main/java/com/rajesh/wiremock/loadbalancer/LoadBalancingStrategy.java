@@ -0,0 +1,28 @@
+package com.rajesh.wiremock.loadbalancer;
+
+import java.util.List;
+
+/**
+ * Picks the instance for the next request.
+ */
+@FunctionalInterface
+public interface LoadBalancingStrategy {
+
+    /**
+     * @param candidates the instances not currently ejected; never empty
+     */
+    ServiceInstance choose(List<ServiceInstance> candidates);
+
+    /**
+     * Compares two random instances and takes the one with the lower
+     * {@link ServiceInstance#getCost() cost}: its peak latency EWMA weighted by the
+     * requests outstanding on it.
+     */
+    static LoadBalancingStrategy powerOfTwoChoices(){
+        return new PowerOfTwoChoices();
+    }
+
+    static LoadBalancingStrategy roundRobin(){
+        return new RoundRobin();
+    }
+}
@@ -0,0 +1,165 @@
+package com.rajesh.wiremock.loadbalancer;
+
+import com.rajesh.wiremock.config.LoadBalancerConfig;
+import com.rajesh.wiremock.resilience.Failures;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Spreads requests over several instances of the movie service from inside the client, so
+ * no proxy hop is needed. Each exchange is sent to the instance chosen by the configured
+ * {@link LoadBalancingStrategy}, and its outcome feeds that instance's latency, load and
+ * health (passive health checking: there are no probe requests). 5xx responses,
+ * connection failures and timeouts count as failures; 4xx responses do not.
+ *
+ * <p>A request counts as outstanding until its response headers arrive. Connections are
+ * pooled per instance address, so each instance gets its own pool of up to
+ * {@code maxConnections}.
+ */
+public class MovieLoadBalancer {
+
+    private final List<ServiceInstance> instances;
+    private final LoadBalancingStrategy strategy;
+    private final int consecutiveFailures;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxEjected;
+
+    public MovieLoadBalancer(LoadBalancerConfig config){
+        if (config.getInstances() == null || config.getInstances().isEmpty()){
+            throw new IllegalArgumentException("At least one instance is required");
+        }
+        List<ServiceInstance> instances = new ArrayList<>();
+        for (String baseUrl : config.getInstances()){
+            instances.add(new ServiceInstance(checkBaseUrl(baseUrl), config.getLatencyDecay().toNanos()));
+        }
+        this.instances = Collections.unmodifiableList(instances);
+        this.strategy = config.getStrategy();
+        this.consecutiveFailures = config.getConsecutiveFailures();
+        this.baseEjectionNanos = config.getBaseEjectionTime().toNanos();
+        this.maxEjectionNanos = config.getMaxEjectionTime().toNanos();
+        this.maxEjected = (int) (instances.size() * config.getMaxEjectedFraction());
+    }
+
+    /**
+     * Requests are routed by replacing only the scheme and authority, so an instance URL
+     * must not carry a path or query of its own; it would be silently dropped.
+     */
+    private static String checkBaseUrl(String baseUrl){
+        URI uri = URI.create(baseUrl);
+        String path = uri.getRawPath();
+        if (uri.getScheme() == null || uri.getRawAuthority() == null
+                || (path != null && !path.isEmpty() && !path.equals("/"))
+                || uri.getRawQuery() != null || uri.getRawFragment() != null){
+            throw new IllegalArgumentException("Instance must be a scheme and authority such as "
+                    + "http://movies-2:8081, without a path: " + baseUrl);
+        }
+        return baseUrl;
+    }
+
+    public List<ServiceInstance> instances(){
+        return instances;
+    }
+
+    /**
+     * Routes each exchange to a chosen instance. Register it as the last filter, so that
+     * retried and hedged attempts are balanced independently and only the exchange itself
+     * is timed.
+     */
+    public ExchangeFilterFunction filter(){
+        return (request, next) -> Mono.defer(() -> {
+            ServiceInstance instance = choose();
+            instance.requestStarted();
+            Exchange exchange = new Exchange(instance);
+            return next.exchange(routeTo(instance, request))
+                    .doOnSuccess(response -> {
+                        if (!exchange.finished()){
+                            return;
+                        }
+                        if (response != null && response.rawStatusCode() >= 500){
+                            failed(instance);
+                        } else {
+                            instance.succeeded();
+                        }
+                    })
+                    .doOnError(ex -> {
+                        if (exchange.finished() && Failures.isTransient(ex)){
+                            failed(instance);
+                        }
+                    })
+                    .doOnCancel(exchange::finished);
+        });
+    }
+
+    /**
+     * Chooses among the instances that are not ejected, or among all of them if every
+     * instance is ejected.
+     */
+    ServiceInstance choose(){
+        List<ServiceInstance> candidates = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances){
+            if (!instance.isEjected()){
+                candidates.add(instance);
+            }
+        }
+        return strategy.choose(candidates.isEmpty() ? instances : candidates);
+    }
+
+    private void failed(ServiceInstance instance){
+        if (instance.failed(consecutiveFailures) && ejectedCount() < maxEjected){
+            instance.eject(baseEjectionNanos, maxEjectionNanos);
+        }
+    }
+
+    private int ejectedCount(){
+        int ejected = 0;
+        for (ServiceInstance instance : instances){
+            if (instance.isEjected()){
+                ejected++;
+            }
+        }
+        return ejected;
+    }
+
+    private static ClientRequest routeTo(ServiceInstance instance, ClientRequest request){
+        URI base = instance.getBaseUri();
+        URI url = request.url();
+        StringBuilder routed = new StringBuilder(base.getScheme()).append("://").append(base.getRawAuthority())
+                .append(url.getRawPath() == null ? "" : url.getRawPath());
+        if (url.getRawQuery() != null){
+            routed.append('?').append(url.getRawQuery());
+        }
+        return ClientRequest.from(request)
+                .url(URI.create(routed.toString()))
+                .build();
+    }
+
+    /**
+     * Ends the request on the first terminal signal or cancel. A cancel can still arrive
+     * after the headers, while the body is read, and must not count the request twice.
+     */
+    private static final class Exchange extends AtomicBoolean {
+
+        private final ServiceInstance instance;
+        private final long start = System.nanoTime();
+
+        Exchange(ServiceInstance instance){
+            this.instance = instance;
+        }
+
+        boolean finished(){
+            if (!compareAndSet(false, true)){
+                return false;
+            }
+            instance.requestFinished(System.nanoTime() - start);
+            return true;
+        }
+    }
+}
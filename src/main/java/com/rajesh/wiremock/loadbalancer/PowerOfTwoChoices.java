@@ -0,0 +1,29 @@
+package com.rajesh.wiremock.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power of two choices: sampling two instances instead of scanning all of them avoids
+ * every client piling onto the same "best" instance, and still steers load away from slow
+ * or busy ones.
+ */
+class PowerOfTwoChoices implements LoadBalancingStrategy {
+
+    @Override
+    public ServiceInstance choose(List<ServiceInstance> candidates){
+        int size = candidates.size();
+        if (size == 1){
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first){
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return a.getCost() <= b.getCost() ? a : b;
+    }
+}
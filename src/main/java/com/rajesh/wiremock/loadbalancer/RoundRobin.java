@@ -0,0 +1,14 @@
+package com.rajesh.wiremock.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RoundRobin implements LoadBalancingStrategy {
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Override
+    public ServiceInstance choose(List<ServiceInstance> candidates){
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+}
@@ -0,0 +1,110 @@
+package com.rajesh.wiremock.loadbalancer;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One instance of the movie service and what the client has observed of it: requests in
+ * flight, a peak-sensitive latency EWMA, consecutive failures and ejection.
+ */
+public class ServiceInstance {
+
+    private final URI baseUri;
+    private final double decayNanos;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+    private int ejections;
+    private volatile long ejectedUntil;
+    private double latencyNanos;
+    private long lastObserved;
+
+    ServiceInstance(String baseUrl, long decayNanos){
+        this.baseUri = URI.create(baseUrl);
+        this.decayNanos = decayNanos;
+        this.lastObserved = System.nanoTime();
+    }
+
+    public URI getBaseUri(){
+        return baseUri;
+    }
+
+    public int getOutstanding(){
+        return outstanding.get();
+    }
+
+    /** Requests sent to this instance so far. */
+    public long getRequests(){
+        return requests.get();
+    }
+
+    /**
+     * Latency EWMA, decayed towards zero for the time since the last sample so an instance
+     * that stopped getting traffic because it was slow is eventually tried again.
+     */
+    public synchronized double getLatencyNanos(){
+        return latencyNanos * Math.exp(-(System.nanoTime() - lastObserved) / decayNanos);
+    }
+
+    /**
+     * Expected wait for a new request: the latency EWMA times the requests it would queue
+     * behind, plus one so instances without samples are still ordered by load.
+     */
+    public double getCost(){
+        return (getLatencyNanos() + 1) * (outstanding.get() + 1);
+    }
+
+    public boolean isEjected(){
+        return ejectedUntil - System.nanoTime() > 0;
+    }
+
+    void requestStarted(){
+        requests.incrementAndGet();
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * Peak EWMA: a sample above the average replaces it at once, so latency spikes are
+     * reacted to immediately; lower samples are blended in with a weight that depends on
+     * the time since the previous one.
+     */
+    void requestFinished(long nanos){
+        outstanding.decrementAndGet();
+        synchronized (this){
+            long now = System.nanoTime();
+            double weight = Math.exp(-(now - lastObserved) / decayNanos);
+            lastObserved = now;
+            latencyNanos = nanos > latencyNanos ? nanos : latencyNanos * weight + nanos * (1 - weight);
+        }
+    }
+
+    void succeeded(){
+        consecutiveFailures.set(0);
+        synchronized (this){
+            ejections = 0;
+        }
+    }
+
+    /**
+     * @return whether this failure reached the consecutive failure threshold
+     */
+    boolean failed(int threshold){
+        return consecutiveFailures.incrementAndGet() >= threshold;
+    }
+
+    /**
+     * Ejects for {@code baseNanos} times the number of ejections since the last success,
+     * capped at {@code maxNanos}.
+     */
+    synchronized void eject(long baseNanos, long maxNanos){
+        ejections++;
+        consecutiveFailures.set(0);
+        ejectedUntil = System.nanoTime() + Math.min(baseNanos * ejections, maxNanos);
+    }
+
+    @Override
+    public String toString(){
+        return baseUri + (isEjected() ? " (ejected)" : "");
+    }
+}
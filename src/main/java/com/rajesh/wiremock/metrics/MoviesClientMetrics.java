@@ -0,0 +1,141 @@
+package com.rajesh.wiremock.metrics;
+
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import com.rajesh.wiremock.resilience.Failures;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-endpoint client metrics published to a Micrometer {@link MeterRegistry}:
+ * <ul>
+ *     <li>{@value #REQUESTS} - timer (count and latency histogram) tagged by endpoint and outcome</li>
+ *     <li>{@value #ACTIVE_REQUESTS} - gauge of requests in flight per endpoint</li>
+ *     <li>{@value #ERRORS} - counter tagged by endpoint, HTTP status and exception type</li>
+ * </ul>
+ * All meters on the success path are created up front, so recording a successful call is a
+ * few atomic updates.
+ */
+public class MoviesClientMetrics {
+
+    public static final String REQUESTS = "movies.client.requests";
+    public static final String ACTIVE_REQUESTS = "movies.client.requests.active";
+    public static final String ERRORS = "movies.client.errors";
+
+    private final MeterRegistry registry;
+    private final Map<MovieEndpoint, EndpointMeters> meters = new EnumMap<>(MovieEndpoint.class);
+
+    public MoviesClientMetrics(MeterRegistry registry){
+        this.registry = registry;
+        for (MovieEndpoint endpoint : MovieEndpoint.values()){
+            meters.put(endpoint, new EndpointMeters(registry, endpoint));
+        }
+    }
+
+    public <T> Mono<T> instrument(MovieEndpoint endpoint, Mono<T> request){
+        EndpointMeters endpointMeters = meters.get(endpoint);
+        return Mono.defer(() -> {
+            Call call = endpointMeters.start();
+            return request
+                    .doOnEach(signal -> {
+                        if (signal.isOnNext() || signal.isOnComplete()){
+                            call.stop(SignalType.ON_COMPLETE);
+                        } else if (signal.isOnError()){
+                            recordError(endpoint, signal.getThrowable());
+                            call.stop(SignalType.ON_ERROR);
+                        }
+                    })
+                    .doOnCancel(() -> call.stop(SignalType.CANCEL));
+        });
+    }
+
+    public <T> Flux<T> instrument(MovieEndpoint endpoint, Flux<T> request){
+        EndpointMeters endpointMeters = meters.get(endpoint);
+        return Flux.defer(() -> {
+            Call call = endpointMeters.start();
+            return request
+                    .doOnComplete(() -> call.stop(SignalType.ON_COMPLETE))
+                    .doOnError(ex -> {
+                        recordError(endpoint, ex);
+                        call.stop(SignalType.ON_ERROR);
+                    })
+                    .doOnCancel(() -> call.stop(SignalType.CANCEL));
+        });
+    }
+
+    private void recordError(MovieEndpoint endpoint, Throwable ex){
+        int statusCode = Failures.statusCode(ex);
+        String status = statusCode > 0 ? String.valueOf(statusCode) : "NONE";
+        registry.counter(ERRORS, Tags.of(
+                "endpoint", endpoint.name(),
+                "status", status,
+                "exception", ex.getClass().getSimpleName()))
+                .increment();
+    }
+
+    private static final class EndpointMeters {
+
+        private final AtomicInteger active = new AtomicInteger();
+        private final Timer success;
+        private final Timer error;
+        private final Timer cancelled;
+
+        EndpointMeters(MeterRegistry registry, MovieEndpoint endpoint){
+            registry.gauge(ACTIVE_REQUESTS, Tags.of("endpoint", endpoint.name()), active);
+            this.success = timer(registry, endpoint, "SUCCESS");
+            this.error = timer(registry, endpoint, "ERROR");
+            this.cancelled = timer(registry, endpoint, "CANCELLED");
+        }
+
+        private static Timer timer(MeterRegistry registry, MovieEndpoint endpoint, String outcome){
+            return Timer.builder(REQUESTS)
+                    .tags("endpoint", endpoint.name(), "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        Call start(){
+            active.incrementAndGet();
+            return new Call(this, System.nanoTime());
+        }
+
+        void stop(long start, SignalType signal){
+            active.decrementAndGet();
+            Timer timer = signal == SignalType.ON_ERROR ? error
+                    : signal == SignalType.CANCEL ? cancelled
+                    : success;
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * One call, recorded when its result or error is emitted rather than after it has
+     * reached the subscriber, so a blocking caller sees the call counted when it returns.
+     * Recorded once: a {@code Mono}'s value is followed by completion or a cancel.
+     */
+    private static final class Call extends AtomicBoolean {
+
+        private final EndpointMeters meters;
+        private final long start;
+
+        Call(EndpointMeters meters, long start){
+            this.meters = meters;
+            this.start = start;
+        }
+
+        void stop(SignalType signal){
+            if (compareAndSet(false, true)){
+                meters.stop(start, signal);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.rajesh.wiremock.metrics;
+
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import com.rajesh.wiremock.tracing.RequestPhase;
+import com.rajesh.wiremock.tracing.RequestTrace;
+import com.rajesh.wiremock.tracing.RequestTraceExporter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports sampled {@link RequestTrace}s as the timer {@value #PHASES}, tagged by endpoint
+ * and phase. Each timer only counts the sampled requests that went through its phase, so
+ * {@code DNS} and {@code CONNECT} count new connections.
+ */
+public class RequestPhaseMetrics implements RequestTraceExporter {
+
+    public static final String PHASES = "movies.client.request.phases";
+
+    private final Map<MovieEndpoint, Map<RequestPhase, Timer>> timers = new EnumMap<>(MovieEndpoint.class);
+
+    public RequestPhaseMetrics(MeterRegistry registry){
+        for (MovieEndpoint endpoint : MovieEndpoint.values()){
+            Map<RequestPhase, Timer> endpointTimers = new EnumMap<>(RequestPhase.class);
+            for (RequestPhase phase : RequestPhase.values()){
+                endpointTimers.put(phase, Timer.builder(PHASES)
+                        .tags("endpoint", endpoint.name(), "phase", phase.name())
+                        .publishPercentileHistogram()
+                        .register(registry));
+            }
+            timers.put(endpoint, endpointTimers);
+        }
+    }
+
+    @Override
+    public void export(RequestTrace trace){
+        Map<RequestPhase, Timer> endpointTimers = timers.get(trace.getEndpoint());
+        for (RequestPhase phase : RequestPhase.values()){
+            long nanos = trace.getNanos(phase);
+            if (nanos >= 0){
+                endpointTimers.get(phase).record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.rajesh.wiremock.resilience;
+
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * A circuit breaker changed state.
+ */
+@Value
+public class CircuitBreakerEvent {
+
+    MovieEndpoint endpoint;
+    MovieCircuitBreaker.State from;
+    MovieCircuitBreaker.State to;
+    Instant timestamp;
+}
@@ -0,0 +1,164 @@
+package com.rajesh.wiremock.resilience;
+
+import com.rajesh.wiremock.config.CircuitBreakerConfig;
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import com.rajesh.wiremock.exception.BulkheadFullException;
+import com.rajesh.wiremock.exception.CircuitBreakerOpenException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Circuit breaker and semaphore bulkhead for every endpoint. A call is rejected without
+ * being sent, with {@link CircuitBreakerOpenException} while its breaker is open or
+ * {@link BulkheadFullException} while its endpoint is at the concurrency limit.
+ * Only {@linkplain Failures#isTransient transient} failures count against the breaker; a
+ * 404 means the service is healthy.
+ */
+public class EndpointGuard {
+
+    public static final String STATE = "movies.client.circuitbreaker.state";
+    public static final String TRANSITIONS = "movies.client.circuitbreaker.transitions";
+    public static final String BULKHEAD_AVAILABLE = "movies.client.bulkhead.available";
+
+    private final CircuitBreakerConfig config;
+    private final Map<MovieEndpoint, MovieCircuitBreaker> breakers = new EnumMap<>(MovieEndpoint.class);
+    private final Map<MovieEndpoint, Semaphore> bulkheads = new EnumMap<>(MovieEndpoint.class);
+    private final CopyOnWriteArrayList<Consumer<CircuitBreakerEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    public EndpointGuard(CircuitBreakerConfig config){
+        this.config = config;
+        for (MovieEndpoint endpoint : MovieEndpoint.values()){
+            breakers.put(endpoint, new MovieCircuitBreaker(endpoint, config, this::publish, System::nanoTime));
+            bulkheads.put(endpoint, new Semaphore(config.getMaxConcurrentCalls()));
+        }
+    }
+
+    /**
+     * Registers a listener for breaker state transitions. Listeners are called on the
+     * thread that caused the transition and should return quickly.
+     */
+    public EndpointGuard onStateTransition(Consumer<CircuitBreakerEvent> listener){
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Publishes breaker state (0 closed, 1 open, 2 half-open), transition counts and
+     * remaining bulkhead permits per endpoint.
+     */
+    public EndpointGuard bindTo(MeterRegistry registry){
+        for (MovieEndpoint endpoint : MovieEndpoint.values()){
+            Tags tags = Tags.of("endpoint", endpoint.name());
+            MovieCircuitBreaker breaker = breakers.get(endpoint);
+            registry.gauge(STATE, tags, breaker, b -> b.getState().ordinal());
+            registry.gauge(BULKHEAD_AVAILABLE, tags, bulkheads.get(endpoint), Semaphore::availablePermits);
+        }
+        onStateTransition(event -> registry.counter(TRANSITIONS, Tags.of(
+                "endpoint", event.getEndpoint().name(),
+                "from", event.getFrom().name(),
+                "to", event.getTo().name()))
+                .increment());
+        return this;
+    }
+
+    public MovieCircuitBreaker.State getState(MovieEndpoint endpoint){
+        return breakers.get(endpoint).getState();
+    }
+
+    public <T> Mono<T> apply(MovieEndpoint endpoint, Mono<T> call){
+        return Mono.defer(() -> {
+            Throwable rejection = tryAcquire(endpoint);
+            if (rejection != null){
+                return Mono.error(rejection);
+            }
+            GuardedCall guarded = new GuardedCall(breakers.get(endpoint), bulkheads.get(endpoint));
+            return call
+                    .doOnEach(signal -> {
+                        if (signal.isOnNext() || signal.isOnComplete()){
+                            guarded.finished(false);
+                        } else if (signal.isOnError()){
+                            guarded.finished(Failures.isTransient(signal.getThrowable()));
+                        }
+                    })
+                    .doOnCancel(guarded::cancelled);
+        });
+    }
+
+    public <T> Flux<T> apply(MovieEndpoint endpoint, Flux<T> call){
+        return Flux.defer(() -> {
+            Throwable rejection = tryAcquire(endpoint);
+            if (rejection != null){
+                return Flux.error(rejection);
+            }
+            GuardedCall guarded = new GuardedCall(breakers.get(endpoint), bulkheads.get(endpoint));
+            return call
+                    .doOnComplete(() -> guarded.finished(false))
+                    .doOnError(ex -> guarded.finished(Failures.isTransient(ex)))
+                    .doOnCancel(guarded::cancelled);
+        });
+    }
+
+    /**
+     * Takes a bulkhead permit and a breaker permission for one call.
+     *
+     * @return {@code null} if the call may go ahead, otherwise the error to fail it with
+     */
+    private Throwable tryAcquire(MovieEndpoint endpoint){
+        Semaphore bulkhead = bulkheads.get(endpoint);
+        if (!bulkhead.tryAcquire()){
+            return new BulkheadFullException(endpoint.getOperation(), config.getMaxConcurrentCalls());
+        }
+        if (!breakers.get(endpoint).tryAcquirePermission()){
+            bulkhead.release();
+            return new CircuitBreakerOpenException(endpoint.getOperation());
+        }
+        return null;
+    }
+
+    private void publish(CircuitBreakerEvent event){
+        for (Consumer<CircuitBreakerEvent> listener : listeners){
+            listener.accept(event);
+        }
+    }
+
+    /**
+     * One admitted call. Its permits are given back when its result or error is emitted
+     * rather than after it has reached the subscriber, so a caller that blocks on one call
+     * and then makes the next finds the bulkhead and breaker already updated. Released
+     * once: a {@code Mono}'s value is followed by completion or a cancel.
+     */
+    private static final class GuardedCall extends AtomicBoolean {
+
+        private final MovieCircuitBreaker breaker;
+        private final Semaphore bulkhead;
+        private final long start = System.nanoTime();
+
+        GuardedCall(MovieCircuitBreaker breaker, Semaphore bulkhead){
+            this.breaker = breaker;
+            this.bulkhead = bulkhead;
+        }
+
+        void finished(boolean failed){
+            if (compareAndSet(false, true)){
+                bulkhead.release();
+                breaker.onResult(System.nanoTime() - start, failed);
+            }
+        }
+
+        void cancelled(){
+            if (compareAndSet(false, true)){
+                bulkhead.release();
+                breaker.release();
+            }
+        }
+    }
+}
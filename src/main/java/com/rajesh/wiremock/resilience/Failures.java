@@ -0,0 +1,53 @@
+package com.rajesh.wiremock.resilience;
+
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import io.netty.channel.ChannelException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Classifies raw client failures.
+ */
+public final class Failures {
+
+    private Failures(){
+    }
+
+    /**
+     * Whether a failure says something about the health of the service rather than about
+     * the request. This covers 5xx responses, connection failures and timeouts. A 4xx
+     * response is the service working correctly, so it is not transient.
+     */
+    public static boolean isTransient(Throwable ex){
+        int statusCode = statusCode(ex);
+        if (statusCode > 0){
+            return statusCode >= 500;
+        }
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()){
+            if (cause instanceof IOException
+                    || cause instanceof ChannelException
+                    || cause instanceof TimeoutException){
+                return true;
+            }
+            if (cause.getCause() == cause){
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the HTTP status of an error response, or {@code 0} if the failure was not a response
+     */
+    public static int statusCode(Throwable ex){
+        if (ex instanceof WebClientResponseException){
+            return ((WebClientResponseException) ex).getRawStatusCode();
+        }
+        if (ex instanceof MovieErrorResponse){
+            return ((MovieErrorResponse) ex).getStatusCode();
+        }
+        return 0;
+    }
+}
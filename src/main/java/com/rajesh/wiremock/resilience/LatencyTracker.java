@@ -0,0 +1,60 @@
+package com.rajesh.wiremock.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding window of recent latencies for one endpoint. The requested percentile is
+ * recomputed every eighth of a window, so reading it is a volatile load rather than a sort.
+ */
+class LatencyTracker {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final int recomputeEvery;
+    private final double percentile;
+    private final int minSamples;
+    private final long initialNanos;
+    private final long minNanos;
+    private final long maxNanos;
+    private volatile long percentileNanos;
+
+    LatencyTracker(int windowSize, double percentile, int minSamples, long initialNanos, long minNanos, long maxNanos){
+        this.samples = new AtomicLongArray(windowSize);
+        this.recomputeEvery = Math.max(1, windowSize / 8);
+        this.percentile = percentile;
+        this.minSamples = Math.min(minSamples, windowSize);
+        this.initialNanos = initialNanos;
+        this.minNanos = minNanos;
+        this.maxNanos = maxNanos;
+        this.percentileNanos = initialNanos;
+    }
+
+    void record(long nanos){
+        long n = count.getAndIncrement();
+        samples.set((int) (n % samples.length()), nanos);
+        long seen = n + 1;
+        if (seen >= minSamples && seen % recomputeEvery == 0){
+            recompute((int) Math.min(seen, samples.length()));
+        }
+    }
+
+    /**
+     * The current percentile, clamped, or the initial delay until enough samples exist.
+     */
+    long percentileNanos(){
+        long nanos = count.get() < minSamples ? initialNanos : percentileNanos;
+        return Math.max(minNanos, Math.min(maxNanos, nanos));
+    }
+
+    private void recompute(int size){
+        long[] window = new long[size];
+        for (int i = 0; i < size; i++){
+            window[i] = samples.get(i);
+        }
+        Arrays.sort(window);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        percentileNanos = window[Math.max(0, Math.min(size - 1, index))];
+    }
+}
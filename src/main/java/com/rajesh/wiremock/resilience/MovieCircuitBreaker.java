@@ -0,0 +1,144 @@
+package com.rajesh.wiremock.resilience;
+
+import com.rajesh.wiremock.config.CircuitBreakerConfig;
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker for one endpoint. Outcomes of the last calls are kept in a
+ * ring; once enough calls are recorded and the failure or slow-call rate crosses its
+ * threshold the breaker opens and rejects calls until the open duration has passed. It then
+ * admits a fixed number of probe calls (half-open) and closes only if those are healthy.
+ * <p>
+ * State changes are rare and the critical sections are a few field updates, so the breaker
+ * simply synchronizes on itself.
+ */
+@Slf4j
+public class MovieCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final MovieEndpoint endpoint;
+    private final CircuitBreakerConfig config;
+    private final long slowCallNanos;
+    private final Consumer<CircuitBreakerEvent> listener;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private final byte[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+    private int slowCalls;
+    private long openUntilNanos;
+    private int halfOpenPermits;
+
+    MovieCircuitBreaker(MovieEndpoint endpoint, CircuitBreakerConfig config,
+                        Consumer<CircuitBreakerEvent> listener, LongSupplier clock){
+        this.endpoint = endpoint;
+        this.config = config;
+        this.slowCallNanos = config.getSlowCallDuration().toNanos();
+        this.listener = listener;
+        this.clock = clock;
+        this.outcomes = new byte[config.getSlidingWindowSize()];
+    }
+
+    public synchronized State getState(){
+        return state;
+    }
+
+    /**
+     * @return whether a call may proceed; every permitted call must be followed by
+     * {@link #onResult} or {@link #release}
+     */
+    synchronized boolean tryAcquirePermission(){
+        switch (state){
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.getAsLong() - openUntilNanos < 0){
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                return tryAcquireHalfOpenPermit();
+            default:
+                return tryAcquireHalfOpenPermit();
+        }
+    }
+
+    private boolean tryAcquireHalfOpenPermit(){
+        if (halfOpenPermits <= 0){
+            return false;
+        }
+        halfOpenPermits--;
+        return true;
+    }
+
+    synchronized void onResult(long durationNanos, boolean failure){
+        if (state == State.OPEN){
+            return;
+        }
+        byte outcome = (byte) ((failure ? FAILURE : SUCCESS) | (durationNanos >= slowCallNanos ? SLOW : SUCCESS));
+        record(outcome);
+        int window = state == State.HALF_OPEN ? config.getHalfOpenCalls() : config.getMinimumCalls();
+        if (recorded < window){
+            return;
+        }
+        boolean unhealthy = failures >= config.getFailureRateThreshold() * recorded
+                || slowCalls >= config.getSlowCallRateThreshold() * recorded;
+        if (unhealthy){
+            transitionTo(State.OPEN);
+        } else if (state == State.HALF_OPEN){
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    /**
+     * Gives back a permit for a call that was cancelled before it produced an outcome.
+     */
+    synchronized void release(){
+        if (state == State.HALF_OPEN){
+            halfOpenPermits++;
+        }
+    }
+
+    private void record(byte outcome){
+        if (recorded == outcomes.length){
+            byte evicted = outcomes[next];
+            failures -= evicted & FAILURE;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        outcomes[next] = outcome;
+        next = (next + 1) % outcomes.length;
+        failures += outcome & FAILURE;
+        slowCalls += (outcome & SLOW) >> 1;
+    }
+
+    private void transitionTo(State to){
+        State from = state;
+        state = to;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        slowCalls = 0;
+        if (to == State.OPEN){
+            openUntilNanos = clock.getAsLong() + config.getOpenDuration().toNanos();
+        } else if (to == State.HALF_OPEN){
+            halfOpenPermits = config.getHalfOpenCalls();
+        }
+        log.warn("Circuit breaker for {} changed from {} to {}", endpoint, from, to);
+        if (listener != null){
+            listener.accept(new CircuitBreakerEvent(endpoint, from, to, Instant.now()));
+        }
+    }
+}
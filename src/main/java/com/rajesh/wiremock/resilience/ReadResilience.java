@@ -0,0 +1,153 @@
+package com.rajesh.wiremock.resilience;
+
+import com.rajesh.wiremock.config.HedgingConfig;
+import com.rajesh.wiremock.config.RetryConfig;
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hedging and retry for read endpoints. Writes pass through untouched, because resending
+ * them is not safe.
+ * <p>
+ * A request publisher is cold, so re-subscribing to it sends the request again. Each
+ * attempt is one subscription. Retries use jittered exponential backoff and only follow
+ * {@linkplain Failures#isTransient transient} failures that happened before anything was
+ * emitted; a partially streamed response is never replayed. Hedges and retries each draw
+ * on a budget earned by the requests themselves, so neither can multiply load during an
+ * outage.
+ */
+@Slf4j
+public class ReadResilience {
+
+    private static final int BUDGET_RESERVE = 10;
+
+    private final HedgingConfig hedging;
+    private final RetryConfig retry;
+    private final Map<MovieEndpoint, LatencyTracker> latencies = new EnumMap<>(MovieEndpoint.class);
+    private final RequestBudget hedgeBudget;
+    private final RequestBudget retryBudget;
+
+    /**
+     * @param hedging hedging settings, or {@code null} to never hedge
+     * @param retry   retry settings, or {@code null} to never retry
+     */
+    public ReadResilience(HedgingConfig hedging, RetryConfig retry){
+        this.hedging = hedging;
+        this.retry = retry;
+        this.hedgeBudget = hedging == null ? null : new RequestBudget(hedging.getMaxHedgeRatio(), BUDGET_RESERVE);
+        this.retryBudget = retry == null ? null : new RequestBudget(retry.getRetryBudgetRatio(), BUDGET_RESERVE);
+        if (hedging != null){
+            for (MovieEndpoint endpoint : MovieEndpoint.values()){
+                latencies.put(endpoint, new LatencyTracker(hedging.getWindowSize(),
+                        hedging.getPercentile(),
+                        hedging.getMinSamples(),
+                        hedging.getInitialDelay().toNanos(),
+                        hedging.getMinDelay().toNanos(),
+                        hedging.getMaxDelay().toNanos()));
+            }
+        }
+    }
+
+    public <T> Mono<T> apply(MovieEndpoint endpoint, Mono<T> request){
+        if (!endpoint.isRead()){
+            return request;
+        }
+        return apply(endpoint, Flux.from(request)).singleOrEmpty();
+    }
+
+    public <T> Flux<T> apply(MovieEndpoint endpoint, Flux<T> request){
+        if (!endpoint.isRead()){
+            return request;
+        }
+        Flux<T> attempt = hedging == null ? request : hedged(endpoint, request);
+        return retry == null ? attempt : retried(endpoint, attempt, 0);
+    }
+
+    private <T> Flux<T> hedged(MovieEndpoint endpoint, Flux<T> request){
+        LatencyTracker tracker = latencies.get(endpoint);
+        return Flux.defer(() -> {
+            hedgeBudget.onRequest();
+            Flux<T> primary = timed(tracker, request);
+            Flux<T> hedge = Mono.delay(Duration.ofNanos(tracker.percentileNanos()))
+                    .flatMapMany(tick -> {
+                        if (!hedgeBudget.tryAcquire()){
+                            return Flux.never();
+                        }
+                        log.debug("Hedging {} after {} ms", endpoint.getOperation(), tracker.percentileNanos() / 1_000_000);
+                        return timed(tracker, request);
+                    });
+            return Flux.first(primary, hedge);
+        });
+    }
+
+    /**
+     * Records how long an attempt took to produce its first signal. Attempts that fail, or
+     * are cancelled because the other attempt won or the caller gave up, are recorded at
+     * their elapsed time: a lower bound, but leaving them out would make the percentile
+     * reflect only the fast attempts and hedge too early.
+     */
+    private static <T> Flux<T> timed(LatencyTracker tracker, Flux<T> request){
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            Runnable record = () -> {
+                if (recorded.compareAndSet(false, true)){
+                    tracker.record(System.nanoTime() - start);
+                }
+            };
+            return request
+                    .doOnNext(value -> record.run())
+                    .doOnComplete(record)
+                    .doOnError(ex -> record.run())
+                    .doOnCancel(record);
+        });
+    }
+
+    /**
+     * The delay after which a read to {@code endpoint} is hedged now.
+     */
+    long hedgeDelayNanos(MovieEndpoint endpoint){
+        return latencies.get(endpoint).percentileNanos();
+    }
+
+    private <T> Flux<T> retried(MovieEndpoint endpoint, Flux<T> attempt, int retriesSoFar){
+        return Flux.defer(() -> {
+            if (retriesSoFar == 0){
+                retryBudget.onRequest();
+            }
+            AtomicBoolean emitted = new AtomicBoolean();
+            return attempt
+                    .doOnNext(value -> emitted.set(true))
+                    .onErrorResume(ex -> {
+                        if (emitted.get()
+                                || retriesSoFar >= retry.getMaxRetries()
+                                || !Failures.isTransient(ex)
+                                || !retryBudget.tryAcquire()){
+                            return Flux.error(ex);
+                        }
+                        Duration backoff = backoff(retriesSoFar);
+                        log.debug("Retrying {} in {} ms after {}", endpoint.getOperation(), backoff.toMillis(), ex.toString());
+                        return Mono.delay(backoff).thenMany(retried(endpoint, attempt, retriesSoFar + 1));
+                    });
+        });
+    }
+
+    private Duration backoff(int retriesSoFar){
+        long first = retry.getFirstBackoff().toNanos();
+        long max = retry.getMaxBackoff().toNanos();
+        long exponential = retriesSoFar >= 62 ? max : Math.min(max, first << retriesSoFar);
+        if (exponential < 0){
+            exponential = max;
+        }
+        long jitter = (long) (exponential * retry.getJitter() * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofNanos(exponential - jitter);
+    }
+}
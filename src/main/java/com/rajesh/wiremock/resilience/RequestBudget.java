@@ -0,0 +1,44 @@
+package com.rajesh.wiremock.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that caps extra attempts (retries, hedges) at a fraction of the requests
+ * actually made. Every request deposits {@code ratio} tokens, every extra attempt withdraws
+ * one. A small reserve lets occasional failures be retried right away.
+ */
+class RequestBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong tokens;
+
+    RequestBudget(double ratio, int reserve){
+        this.deposit = (long) (ratio * SCALE);
+        this.capacity = reserve * SCALE;
+        this.tokens = new AtomicLong(capacity);
+    }
+
+    void onRequest(){
+        long current;
+        do {
+            current = tokens.get();
+            if (current >= capacity){
+                return;
+            }
+        } while (!tokens.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    boolean tryAcquire(){
+        long current;
+        do {
+            current = tokens.get();
+            if (current < SCALE){
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - SCALE));
+        return true;
+    }
+}
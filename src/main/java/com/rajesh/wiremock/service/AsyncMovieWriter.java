@@ -0,0 +1,350 @@
+package com.rajesh.wiremock.service;
+
+import com.rajesh.wiremock.config.AsyncWriterConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind front end for the movie service's write endpoints. Each write returns at
+ * once with a future for its own result or {@link MovieErrorResponse}. A background thread
+ * sends the queued writes in batches.
+ *
+ * <p>The service has no batch endpoint, so a batch is pipelined. Up to
+ * {@code maxInFlight} requests are sent at once over pooled connections. Writes to the same
+ * movie stay in the order they were submitted, and batches are sent one after another.
+ * An update to a movie that already has an update queued is merged into it instead of
+ * adding a request: its non-null fields overwrite the queued ones, since the service
+ * applies updates field by field. Both futures then complete with the result of the one
+ * request sent. When the queue is full, submitting blocks the caller for up to
+ * {@code enqueueTimeout}.
+ */
+@Slf4j
+public class AsyncMovieWriter implements AutoCloseable {
+
+    private enum Kind { ADD, UPDATE, DELETE }
+
+    private final ReactiveMoviesRestClient client;
+    private final AsyncWriterConfig config;
+    private final Semaphore capacity;
+    private final Object lock = new Object();
+    private final List<PendingWrite> pending = new ArrayList<>();
+    private final Map<Integer, PendingWrite> lastWriteById = new HashMap<>();
+    private final Thread flusher;
+    private boolean flushRequested;
+    private boolean closed;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public AsyncMovieWriter(ReactiveMoviesRestClient client, AsyncWriterConfig config){
+        this.client = client;
+        this.config = config;
+        this.capacity = new Semaphore(config.getQueueCapacity());
+        this.flusher = new Thread(this::flushLoop, "movies-async-writer");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public CompletableFuture<Movie> addMovie(Movie movie){
+        return submit(Kind.ADD, null, movie);
+    }
+
+    public CompletableFuture<Movie> updateMovie(Integer movieId, Movie movie){
+        return submit(Kind.UPDATE, movieId, movie);
+    }
+
+    public CompletableFuture<String> deleteMovie(Integer movieId){
+        return submit(Kind.DELETE, movieId, null);
+    }
+
+    private <T> CompletableFuture<T> submit(Kind kind, Integer movieId, Movie movie){
+        CompletableFuture<T> result = new CompletableFuture<>();
+        synchronized (lock){
+            if (closed){
+                result.completeExceptionally(new MovieErrorResponse("Writer is closed"));
+                return result;
+            }
+            if (coalesce(kind, movieId, movie, result)){
+                return result;
+            }
+        }
+        try {
+            if (!capacity.tryAcquire(config.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS)){
+                result.completeExceptionally(new MovieErrorResponse("Write queue is full"));
+                return result;
+            }
+        } catch (InterruptedException ex){
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(new MovieErrorResponse(ex));
+            return result;
+        }
+        synchronized (lock){
+            if (closed){
+                capacity.release();
+                result.completeExceptionally(new MovieErrorResponse("Writer is closed"));
+                return result;
+            }
+            // another caller may have queued an update for this movie while we waited
+            if (coalesce(kind, movieId, movie, result)){
+                capacity.release();
+                return result;
+            }
+            PendingWrite write = new PendingWrite(kind, movieId, movie);
+            write.futures.add(erase(result));
+            pending.add(write);
+            if (movieId != null){
+                lastWriteById.put(movieId, write);
+            }
+            lock.notifyAll();
+        }
+        return result;
+    }
+
+    private boolean coalesce(Kind kind, Integer movieId, Movie movie, CompletableFuture<?> result){
+        if (kind != Kind.UPDATE){
+            return false;
+        }
+        PendingWrite last = lastWriteById.get(movieId);
+        if (last == null || last.kind != Kind.UPDATE){
+            return false;
+        }
+        last.movie = merge(last.movie, movie);
+        last.futures.add(erase(result));
+        coalesced.increment();
+        return true;
+    }
+
+    /**
+     * @return a new movie with the fields of {@code update} where it sets them and those of
+     * {@code queued} elsewhere; neither argument is changed
+     */
+    private static Movie merge(Movie queued, Movie update){
+        return new Movie(
+                update.getMovie_id() != null ? update.getMovie_id() : queued.getMovie_id(),
+                update.getName() != null ? update.getName() : queued.getName(),
+                update.getCast() != null ? update.getCast() : queued.getCast(),
+                update.getYear() != null ? update.getYear() : queued.getYear(),
+                update.getRelease_date() != null ? update.getRelease_date() : queued.getRelease_date());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Object> erase(CompletableFuture<?> future){
+        return (CompletableFuture<Object>) future;
+    }
+
+    /**
+     * Sends everything queued now without waiting for a full batch or the batch delay.
+     *
+     * @return completes when every write queued before the call has completed
+     */
+    public CompletableFuture<Void> flush(){
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        synchronized (lock){
+            for (PendingWrite write : pending){
+                futures.addAll(write.futures);
+            }
+            flushRequested = true;
+            lock.notifyAll();
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .handle((ignored, ex) -> null);
+    }
+
+    private void flushLoop(){
+        try {
+            List<PendingWrite> batch;
+            while ((batch = nextBatch()) != null){
+                send(batch);
+                if (Thread.interrupted()){
+                    throw new InterruptedException();
+                }
+            }
+        } catch (InterruptedException ex){
+            failQueued(ex);
+        }
+    }
+
+    /**
+     * Called when the background thread is interrupted: nothing would send the queued
+     * writes any more, so their futures fail and the writer behaves as closed.
+     */
+    private void failQueued(InterruptedException ex){
+        List<PendingWrite> queued;
+        synchronized (lock){
+            closed = true;
+            queued = new ArrayList<>(pending);
+            pending.clear();
+            lastWriteById.clear();
+        }
+        log.error("Async writer thread was interrupted, failing {} queued writes", queued.size());
+        MovieErrorResponse error = new MovieErrorResponse(ex);
+        for (PendingWrite write : queued){
+            write.fail(error);
+        }
+        capacity.release(queued.size());
+    }
+
+    /**
+     * Waits until a batch is due and takes it off the queue.
+     *
+     * @return {@code null} once the writer is closed and drained
+     */
+    private List<PendingWrite> nextBatch() throws InterruptedException {
+        long maxBatchDelayNanos = config.getMaxBatchDelay().toNanos();
+        synchronized (lock){
+            while (pending.isEmpty()){
+                if (closed){
+                    return null;
+                }
+                flushRequested = false;
+                lock.wait();
+            }
+            while (pending.size() < config.getMaxBatchSize() && !flushRequested && !closed){
+                long remaining = pending.get(0).enqueuedAt + maxBatchDelayNanos - System.nanoTime();
+                if (remaining <= 0){
+                    break;
+                }
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            }
+            int size = Math.min(pending.size(), config.getMaxBatchSize());
+            List<PendingWrite> batch = new ArrayList<>(pending.subList(0, size));
+            pending.subList(0, size).clear();
+            for (PendingWrite write : batch){
+                if (write.movieId != null && lastWriteById.get(write.movieId) == write){
+                    lastWriteById.remove(write.movieId);
+                }
+            }
+            if (pending.isEmpty()){
+                flushRequested = false;
+            }
+            return batch;
+        }
+    }
+
+    private void send(List<PendingWrite> batch){
+        // writes without an id (adds) are independent; writes to one movie keep their order
+        Map<Object, List<PendingWrite>> byMovie = new LinkedHashMap<>();
+        for (PendingWrite write : batch){
+            Object key = write.movieId == null ? write : write.movieId;
+            byMovie.computeIfAbsent(key, k -> new ArrayList<>(1)).add(write);
+        }
+        batches.increment();
+        try {
+            Flux.fromIterable(byMovie.values())
+                    .flatMap(writes -> Flux.fromIterable(writes).concatMap(this::send), config.getMaxInFlight())
+                    .then()
+                    .block();
+        } catch (RuntimeException ex){
+            log.error("Async write batch failed. Message is {}", ex.getMessage());
+            for (PendingWrite write : batch){
+                write.fail(ex);
+            }
+            if (Exceptions.unwrap(ex) instanceof InterruptedException){
+                // block() clears the interrupt; keep it for flushLoop
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            capacity.release(batch.size());
+        }
+    }
+
+    private Mono<Void> send(PendingWrite write){
+        Mono<?> call;
+        switch (write.kind){
+            case ADD:
+                call = client.addMovie(write.movie);
+                break;
+            case UPDATE:
+                call = client.updateMovie(write.movieId, write.movie);
+                break;
+            default:
+                call = client.deleteMovie(write.movieId);
+        }
+        sent.increment();
+        return call
+                .doOnSuccess(write::complete)
+                .doOnError(write::fail)
+                .onErrorResume(ex -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * @return requests sent to the service
+     */
+    public long sentCount(){
+        return sent.sum();
+    }
+
+    /**
+     * @return updates folded into an update already queued for the same movie
+     */
+    public long coalescedCount(){
+        return coalesced.sum();
+    }
+
+    /**
+     * @return batches sent, counted when sending starts
+     */
+    public long batchCount(){
+        return batches.sum();
+    }
+
+    /**
+     * Sends everything still queued, waits for it, and stops the background thread.
+     * Writes submitted afterwards fail with a {@link MovieErrorResponse}.
+     */
+    @Override
+    public void close(){
+        synchronized (lock){
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException ex){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class PendingWrite {
+
+        private final Kind kind;
+        private final Integer movieId;
+        private final long enqueuedAt = System.nanoTime();
+        private volatile Movie movie;
+        private final List<CompletableFuture<Object>> futures = new ArrayList<>(1);
+
+        private PendingWrite(Kind kind, Integer movieId, Movie movie){
+            this.kind = kind;
+            this.movieId = movieId;
+            this.movie = movie;
+        }
+
+        private void complete(Object result){
+            for (CompletableFuture<Object> future : futures){
+                future.complete(result);
+            }
+        }
+
+        private void fail(Throwable ex){
+            for (CompletableFuture<Object> future : futures){
+                future.completeExceptionally(ex);
+            }
+        }
+    }
+}
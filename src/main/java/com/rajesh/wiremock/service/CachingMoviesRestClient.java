@@ -0,0 +1,142 @@
+package com.rajesh.wiremock.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.rajesh.wiremock.config.MovieCacheConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.dto.MovieBatchResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-through cache in front of {@link MoviesRestClient}. Lookups by id, name and year
+ * are served from bounded, expiring caches (W-TinyLFU eviction). Concurrent misses for the
+ * same key wait for a single upstream call instead of each issuing their own. Writes
+ * invalidate every entry they may have made stale.
+ */
+public class CachingMoviesRestClient extends MoviesRestClient {
+
+    private final Cache<Integer, Movie> movieById;
+    private final Cache<String, List<Movie>> moviesByName;
+    private final Cache<Integer, List<Movie>> moviesByYear;
+
+    public CachingMoviesRestClient(ReactiveMoviesRestClient reactiveClient, MovieCacheConfig config){
+        super(reactiveClient);
+        this.movieById = newCache(config.getMaximumSize(), config.getMovieByIdTtl());
+        this.moviesByName = newCache(config.getMaximumSize(), config.getMoviesByNameTtl());
+        this.moviesByYear = newCache(config.getMaximumSize(), config.getMoviesByYearTtl());
+    }
+
+    @Override
+    public Movie retrieveMovieById(Integer movieId){
+        return movieById.get(movieId, super::retrieveMovieById);
+    }
+
+    @Override
+    public MovieBatchResult retrieveMoviesByIds(Collection<Integer> movieIds, int parallelism){
+        Map<Integer, Movie> cached = movieById.getAllPresent(movieIds);
+        List<Integer> missing = new ArrayList<>();
+        for (Integer movieId : movieIds){
+            if (!cached.containsKey(movieId)){
+                missing.add(movieId);
+            }
+        }
+        MovieBatchResult fetched = missing.isEmpty()
+                ? new MovieBatchResult()
+                : super.retrieveMoviesByIds(missing, parallelism);
+        fetched.getMovies().forEach(movieById::put);
+
+        MovieBatchResult result = new MovieBatchResult();
+        for (Integer movieId : movieIds){
+            if (cached.containsKey(movieId)){
+                result.found(movieId, cached.get(movieId));
+            } else if (fetched.getMovies().containsKey(movieId)){
+                result.found(movieId, fetched.getMovies().get(movieId));
+            } else if (fetched.getFailures().containsKey(movieId)){
+                result.failed(movieId, fetched.getFailures().get(movieId));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Movie> retrieveMoviesByName(String name){
+        return moviesByName.get(name, key -> Collections.unmodifiableList(super.retrieveMoviesByName(key)));
+    }
+
+    @Override
+    public List<Movie> retrieveMoviesByYear(Integer movieYear){
+        return moviesByYear.get(movieYear, key -> Collections.unmodifiableList(super.retrieveMoviesByYear(key)));
+    }
+
+    @Override
+    public Movie addMovie(Movie movie){
+        try {
+            return super.addMovie(movie);
+        } finally {
+            moviesByName.invalidateAll();
+            if (movie.getYear() != null){
+                moviesByYear.invalidate(movie.getYear());
+            } else {
+                moviesByYear.invalidateAll();
+            }
+        }
+    }
+
+    @Override
+    public Movie updateMovie(Integer movieId, Movie movie){
+        try {
+            return super.updateMovie(movieId, movie);
+        } finally {
+            invalidateMovie(movieId);
+        }
+    }
+
+    @Override
+    public String deleteMovie(Integer movieId){
+        try {
+            return super.deleteMovie(movieId);
+        } finally {
+            invalidateMovie(movieId);
+        }
+    }
+
+    /**
+     * Hit, miss, load and eviction counters keyed by operation name.
+     */
+    public Map<String, CacheStats> cacheStats(){
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("retrieveMovieById", movieById.stats());
+        stats.put("retrieveMoviesByName", moviesByName.stats());
+        stats.put("retrieveMoviesByYear", moviesByYear.stats());
+        return stats;
+    }
+
+    public void invalidateAll(){
+        movieById.invalidateAll();
+        moviesByName.invalidateAll();
+        moviesByYear.invalidateAll();
+    }
+
+    private void invalidateMovie(Integer movieId){
+        // the name and year of the movie may have changed, so every search result is suspect
+        movieById.invalidate(movieId);
+        moviesByName.invalidateAll();
+        moviesByYear.invalidateAll();
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, Duration ttl){
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.rajesh.wiremock.service;
+
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.index.MovieIndex;
+
+import java.util.List;
+
+/**
+ * {@link MoviesRestClient} that answers by-year and by-name lookups from a
+ * {@link MovieIndex}. It falls back to the service while the index is loading or when it
+ * has no match, so a miss still gets the service's 404 and a movie added elsewhere since
+ * the last refresh is still found. Writes go to the service and are then applied to the
+ * index.
+ */
+public class IndexedMoviesRestClient extends MoviesRestClient {
+
+    private final MovieIndex index;
+
+    public IndexedMoviesRestClient(ReactiveMoviesRestClient reactiveClient, MovieIndex index){
+        super(reactiveClient);
+        this.index = index;
+    }
+
+    @Override
+    public List<Movie> retrieveMoviesByName(String name){
+        List<Movie> movies = index.isReady() ? index.moviesByName(name) : null;
+        return movies == null || movies.isEmpty() ? super.retrieveMoviesByName(name) : movies;
+    }
+
+    @Override
+    public List<Movie> retrieveMoviesByYear(Integer movieYear){
+        List<Movie> movies = index.isReady() && movieYear != null ? index.moviesByYear(movieYear) : null;
+        return movies == null || movies.isEmpty() ? super.retrieveMoviesByYear(movieYear) : movies;
+    }
+
+    @Override
+    public Movie addMovie(Movie movie){
+        Movie added = super.addMovie(movie);
+        if (added != null){
+            index.upsert(added);
+        }
+        return added;
+    }
+
+    @Override
+    public Movie updateMovie(Integer movieId, Movie movie){
+        Movie updated = super.updateMovie(movieId, movie);
+        if (updated != null){
+            index.upsert(updated);
+        }
+        return updated;
+    }
+
+    @Override
+    public String deleteMovie(Integer movieId){
+        String result = super.deleteMovie(movieId);
+        index.remove(movieId.longValue());
+        return result;
+    }
+}
@@ -0,0 +1,205 @@
+package com.rajesh.wiremock.service;
+
+import com.rajesh.wiremock.codec.MovieJsonDecoder;
+import com.rajesh.wiremock.concurrent.BlockingExecutors;
+import com.rajesh.wiremock.concurrent.MovieLookupScope;
+import com.rajesh.wiremock.config.AsyncWriterConfig;
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.exception.MovieErrorMapper;
+import com.rajesh.wiremock.http.ConditionalGetCache;
+import com.rajesh.wiremock.http.ConnectionPoolStats;
+import com.rajesh.wiremock.http.PoolInstrumentation;
+import com.rajesh.wiremock.loadbalancer.MovieLoadBalancer;
+import com.rajesh.wiremock.metrics.MoviesClientMetrics;
+import com.rajesh.wiremock.metrics.RequestPhaseMetrics;
+import com.rajesh.wiremock.resilience.EndpointGuard;
+import com.rajesh.wiremock.resilience.ReadResilience;
+import com.rajesh.wiremock.tracing.RequestTraceExporter;
+import com.rajesh.wiremock.tracing.RequestTracer;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds movie clients on top of one tuned, shared reactor-netty connection pool. Every
+ * client handed out by the same factory reuses its connections, so create one factory per
+ * movie service and keep it for the lifetime of the application.
+ */
+public class MoviesRestClientFactory {
+
+    private final MoviesClientConfig config;
+    private final ConnectionProvider connectionProvider;
+    private final ConnectionPoolStats poolStats;
+    private final WebClient webClient;
+    private final MoviesClientMetrics metrics;
+    private final EndpointGuard endpointGuard;
+    private final ReadResilience readResilience;
+    private final MovieErrorMapper errorMapper;
+    private final ConditionalGetCache conditionalGets;
+    private final ExecutorService blockingExecutor;
+    private final RequestTracer tracer;
+    private final MovieLoadBalancer loadBalancer;
+    private final String baseUrl;
+
+    public MoviesRestClientFactory(MoviesClientConfig config){
+        this.config = config;
+        this.connectionProvider = ConnectionProvider.fixed(config.getPoolName(),
+                config.getMaxConnections(),
+                config.getPendingAcquireTimeout().toMillis());
+        this.loadBalancer = config.getLoadBalancer() == null ? null : new MovieLoadBalancer(config.getLoadBalancer());
+        // one pool of maxConnections per remote address, so per instance when load balancing
+        int pools = loadBalancer == null ? 1 : loadBalancer.instances().size();
+        this.poolStats = new ConnectionPoolStats(config.getMaxConnections() * pools);
+        this.errorMapper = new MovieErrorMapper(config.getErrorMode());
+        this.tracer = config.getTracing() == null ? null : new RequestTracer(config.getTracing(), traceExporter(config));
+        this.baseUrl = config.getBaseUrl() != null || loadBalancer == null
+                ? config.getBaseUrl()
+                : config.getLoadBalancer().getInstances().get(0);
+        WebClient.Builder builder = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient()))
+                .filter(PoolInstrumentation.pendingAcquireLimit(poolStats, config.getMaxPendingAcquires()));
+        if (config.getErrorMode() != MovieErrorMapper.Mode.FULL){
+            builder.filter(errorMapper.filter());
+        }
+        if (config.isFastMovieCodec()){
+            builder.exchangeStrategies(MovieJsonDecoder.exchangeStrategies());
+        }
+        if (loadBalancer != null){
+            builder.filter(loadBalancer.filter());
+        }
+        this.webClient = builder.build();
+        this.metrics = config.getMeterRegistry() == null ? null : new MoviesClientMetrics(config.getMeterRegistry());
+        this.endpointGuard = config.getCircuitBreaker() == null ? null : new EndpointGuard(config.getCircuitBreaker());
+        if (endpointGuard != null && config.getMeterRegistry() != null){
+            endpointGuard.bindTo(config.getMeterRegistry());
+        }
+        this.readResilience = config.getHedging() == null && config.getRetry() == null
+                ? null
+                : new ReadResilience(config.getHedging(), config.getRetry());
+        this.conditionalGets = config.isConditionalGets()
+                ? new ConditionalGetCache(config.getConditionalGetMaxEntries())
+                : null;
+        this.blockingExecutor = BlockingExecutors.newPerTaskExecutor(config.getPoolName() + "-blocking-");
+    }
+
+    private HttpClient httpClient(){
+        long responseTimeoutMillis = config.getResponseTimeout().toMillis();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .tcpConfiguration(tcpClient -> tcpClient
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) config.getConnectTimeout().toMillis())
+                        .option(ChannelOption.SO_KEEPALIVE, config.isKeepAlive())
+                        .option(ChannelOption.TCP_NODELAY, true))
+                .keepAlive(config.isKeepAlive())
+                .compress(config.isCompression())
+                .doOnRequest((request, connection) -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(responseTimeoutMillis, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(responseTimeoutMillis, TimeUnit.MILLISECONDS)));
+        if (config.isHttp2()){
+            httpClient = httpClient.protocol(HttpProtocol.H2C);
+        }
+        if (tracer != null){
+            httpClient = RequestTracer.instrument(httpClient);
+        }
+        return PoolInstrumentation.instrument(httpClient, poolStats, config.getMaxIdleTime());
+    }
+
+    private static RequestTraceExporter traceExporter(MoviesClientConfig config){
+        if (config.getTracing().getExporter() != null){
+            return config.getTracing().getExporter();
+        }
+        if (config.getMeterRegistry() == null){
+            throw new IllegalArgumentException("Tracing needs an exporter or a meter registry");
+        }
+        return new RequestPhaseMetrics(config.getMeterRegistry());
+    }
+
+    public WebClient webClient(){
+        return webClient;
+    }
+
+    public ReactiveMoviesRestClient reactiveMoviesRestClient(){
+        return ReactiveMoviesRestClient.builder()
+                .webClient(webClient)
+                .baseUrl(baseUrl)
+                .metrics(metrics)
+                .endpointGuard(endpointGuard)
+                .readResilience(readResilience)
+                .errorMapper(errorMapper)
+                .conditionalGets(conditionalGets)
+                .tracer(tracer)
+                .build();
+    }
+
+    public MoviesRestClient moviesRestClient(){
+        return new MoviesRestClient(reactiveMoviesRestClient());
+    }
+
+    /**
+     * The circuit breakers and bulkheads shared by this factory's clients, for registering
+     * state transition listeners; {@code null} if none were configured.
+     */
+    public EndpointGuard endpointGuard(){
+        return endpointGuard;
+    }
+
+    /**
+     * The instances requests are spread over, for inspecting their load and health;
+     * {@code null} unless load balancing is enabled.
+     */
+    public MovieLoadBalancer loadBalancer(){
+        return loadBalancer;
+    }
+
+    /**
+     * The validators and results shared by this factory's clients for revalidating lists;
+     * {@code null} unless conditional GETs are enabled.
+     */
+    public ConditionalGetCache conditionalGetCache(){
+        return conditionalGets;
+    }
+
+    /**
+     * Runs each task on its own thread, for fanning out calls to the blocking client. On
+     * Java 21 and later these are virtual threads; see {@link BlockingExecutors}.
+     */
+    public ExecutorService blockingExecutor(){
+        return blockingExecutor;
+    }
+
+    /**
+     * Opens a {@link MovieLookupScope} that forks its lookups onto {@link #blockingExecutor()}.
+     */
+    public MovieLookupScope lookupScope(){
+        return new MovieLookupScope(blockingExecutor);
+    }
+
+    /**
+     * Creates a write-behind {@link AsyncMovieWriter} over a new {@link #reactiveMoviesRestClient()}.
+     * Close it before {@link #dispose()} so queued writes are sent.
+     */
+    public AsyncMovieWriter asyncMovieWriter(AsyncWriterConfig config){
+        return new AsyncMovieWriter(reactiveMoviesRestClient(), config);
+    }
+
+    public ConnectionPoolStats poolStats(){
+        return poolStats;
+    }
+
+    /**
+     * Closes every pooled connection and stops accepting blocking tasks. Clients created by
+     * this factory must not be used afterwards.
+     */
+    public void dispose(){
+        blockingExecutor.shutdown();
+        connectionProvider.dispose();
+    }
+}
@@ -0,0 +1,244 @@
+package com.rajesh.wiremock.service;
+
+import com.rajesh.wiremock.codec.MovieJsonDecoder;
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.dto.MovieBatchResult;
+import com.rajesh.wiremock.dto.MovieTable;
+import com.rajesh.wiremock.exception.MovieErrorMapper;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.http.ConditionalGetCache;
+import com.rajesh.wiremock.http.RequestTemplate;
+import com.rajesh.wiremock.metrics.MoviesClientMetrics;
+import com.rajesh.wiremock.resilience.EndpointGuard;
+import com.rajesh.wiremock.resilience.ReadResilience;
+import com.rajesh.wiremock.tracing.RequestTracer;
+import lombok.Builder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking counterpart of {@link MoviesRestClient}. Every operation returns a cold
+ * {@link Mono} or {@link Flux}; nothing is sent until it is subscribed to. Failures are
+ * mapped to {@link MovieErrorResponse} inside the pipeline.
+ */
+public class ReactiveMoviesRestClient {
+
+    private static final Map<MovieEndpoint, HttpHeaders> REQUEST_HEADERS = requestHeaders();
+
+    private final WebClient webClient;
+    private final Map<MovieEndpoint, RequestTemplate> templates;
+    private final MoviesClientMetrics metrics;
+    private final EndpointGuard endpointGuard;
+    private final ReadResilience readResilience;
+    private final MovieErrorMapper errorMapper;
+    private final ConditionalGetCache conditionalGets;
+    private final RequestTracer tracer;
+
+    public ReactiveMoviesRestClient(WebClient webClient){
+        this(webClient, null, null, null, null, null, null, null);
+    }
+
+    public ReactiveMoviesRestClient(WebClient webClient, MoviesClientMetrics metrics){
+        this(webClient, null, metrics, null, null, null, null, null);
+    }
+
+    /**
+     * @param baseUrl         base URL the {@code webClient} was built with; if given, request
+     *                        URIs are expanded from {@link RequestTemplate}s compiled here
+     * @param metrics         per-endpoint instrumentation, or {@code null} to record nothing
+     * @param endpointGuard   circuit breaker and bulkhead per endpoint, or {@code null} for none
+     * @param readResilience  hedging and retry for reads, or {@code null} to send each call once
+     * @param errorMapper     maps and logs failures; {@code null} for {@link MovieErrorMapper.Mode#FULL}
+     * @param conditionalGets validators and results for revalidating the list endpoints, or
+     *                        {@code null} to always download them in full
+     * @param tracer          per-phase tracing of sampled requests, or {@code null} for none; the
+     *                        {@code webClient}'s connector must be {@link RequestTracer#instrument instrumented}
+     */
+    @Builder
+    private ReactiveMoviesRestClient(WebClient webClient, String baseUrl, MoviesClientMetrics metrics,
+                                     EndpointGuard endpointGuard, ReadResilience readResilience,
+                                     MovieErrorMapper errorMapper, ConditionalGetCache conditionalGets,
+                                     RequestTracer tracer){
+        this.webClient = webClient;
+        this.templates = compileTemplates(baseUrl);
+        this.metrics = metrics;
+        this.endpointGuard = endpointGuard;
+        this.readResilience = readResilience;
+        this.errorMapper = errorMapper == null ? new MovieErrorMapper(MovieErrorMapper.Mode.FULL) : errorMapper;
+        this.conditionalGets = conditionalGets;
+        this.tracer = tracer;
+    }
+
+    /**
+     * Movies are decoded one array element at a time and emitted as they arrive, so the
+     * full catalogue is never buffered. Demand is propagated to the connection, so a slow
+     * subscriber stops the socket from being read. The server may also answer with
+     * newline-delimited JSON ({@code application/stream+json}).
+     */
+    public Flux<Movie> retrieveAllMovies(){
+        return execute(MovieEndpoint.GET_ALL_MOVIES_V1, retrieveList(MovieEndpoint.GET_ALL_MOVIES_V1, null));
+    }
+
+    /**
+     * The whole catalogue as a columnar {@link MovieTable}, for result sets too large to hold
+     * as {@code Movie} objects. The response body is parsed into the table as it arrives,
+     * whichever codec the {@code WebClient} is configured with. Not revalidated through the
+     * {@link ConditionalGetCache}.
+     */
+    public Mono<MovieTable> retrieveAllMoviesAsTable(){
+        return execute(MovieEndpoint.GET_ALL_MOVIES_V1, MovieJsonDecoder.decodeTable(
+                request(MovieEndpoint.GET_ALL_MOVIES_V1, null)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class)));
+    }
+
+    public Mono<Movie> retrieveMovieById(Integer movieId){
+        //http://localhost:8081/movieservice/v1/movie/1
+        return execute(MovieEndpoint.GET_MOVIE_BY_ID, request(MovieEndpoint.GET_MOVIE_BY_ID, movieId)
+                .retrieve()
+                .bodyToMono(Movie.class));
+    }
+
+    /**
+     * Looks up each distinct id with at most {@code parallelism} requests in flight. Results
+     * are in the order the ids were given; a failed id (e.g. a 404) is reported in
+     * {@link MovieBatchResult#getFailures()} without aborting the other lookups.
+     */
+    public Mono<MovieBatchResult> retrieveMoviesByIds(Collection<Integer> movieIds, int parallelism){
+        return Flux.fromIterable(new LinkedHashSet<>(movieIds))
+                .flatMapSequential(movieId -> retrieveMovieById(movieId)
+                                .map(movie -> (Consumer<MovieBatchResult>) result -> result.found(movieId, movie))
+                                .onErrorResume(MovieErrorResponse.class,
+                                        ex -> Mono.just((Consumer<MovieBatchResult>) result -> result.failed(movieId, ex))),
+                        parallelism)
+                .collect(MovieBatchResult::new, (result, outcome) -> outcome.accept(result));
+    }
+
+    public Flux<Movie> retrieveMoviesByName(String name){
+        //http://localhost:8081/movieservice/v1/movieName?movie_name=Avengers
+        return execute(MovieEndpoint.GET_MOVIES_BY_NAME, retrieveList(MovieEndpoint.GET_MOVIES_BY_NAME, name));
+    }
+
+    public Flux<Movie> retrieveMoviesByYear(Integer movieYear){
+        //http://localhost:8081/movieservice/v1/movieYear?year=2012
+        return execute(MovieEndpoint.GET_MOVIES_BY_YEAR, retrieveList(MovieEndpoint.GET_MOVIES_BY_YEAR, movieYear));
+    }
+
+    public Mono<Movie> addMovie(Movie movie){
+        return execute(MovieEndpoint.ADD_MOVIE_V1, request(MovieEndpoint.ADD_MOVIE_V1, null)
+                .syncBody(movie)
+                .retrieve()
+                .bodyToMono(Movie.class));
+    }
+
+    public Mono<Movie> updateMovie(Integer movieId, Movie movie){
+        return execute(MovieEndpoint.UPDATE_MOVIE_V1, request(MovieEndpoint.UPDATE_MOVIE_V1, movieId)
+                .syncBody(movie)
+                .retrieve()
+                .bodyToMono(Movie.class));
+    }
+
+    public Mono<String> deleteMovie(Integer movieId){
+        return execute(MovieEndpoint.DELETE_MOVIE_BY_ID_V1, request(MovieEndpoint.DELETE_MOVIE_BY_ID_V1, movieId)
+                .retrieve()
+                .bodyToMono(String.class));
+    }
+
+    /**
+     * Lists are revalidated through the {@link ConditionalGetCache} when one is configured,
+     * and streamed as they are decoded otherwise.
+     */
+    private Flux<Movie> retrieveList(MovieEndpoint endpoint, Object value){
+        if (conditionalGets != null){
+            return conditionalGets.retrieve(endpoint.name() + '?' + value, () -> request(endpoint, value), Movie.class);
+        }
+        return request(endpoint, value)
+                .retrieve()
+                .bodyToFlux(Movie.class);
+    }
+
+    /**
+     * Starts a request to {@code endpoint} with {@code value} as its path variable or query
+     * value ({@code null} if it takes neither). With a known base URL this expands the
+     * precompiled {@link RequestTemplate}; otherwise the {@code WebClient}'s URI builder
+     * expands the endpoint's template.
+     */
+    private WebClient.RequestBodySpec request(MovieEndpoint endpoint, Object value){
+        WebClient.RequestBodyUriSpec spec = webClient.method(endpoint.getMethod());
+        RequestTemplate template = templates.get(endpoint);
+        if (template != null){
+            return spec.uri(value == null ? template.expand() : template.expand(value))
+                    .headers(template.headersInitializer());
+        }
+        HttpHeaders headers = REQUEST_HEADERS.get(endpoint);
+        WebClient.RequestBodySpec uriSpec;
+        if (value == null){
+            uriSpec = spec.uri(endpoint.getUriTemplate());
+        } else if (endpoint.getQueryParam() != null){
+            uriSpec = spec.uri(uriBuilder -> uriBuilder.path(endpoint.getUriTemplate())
+                    .queryParam(endpoint.getQueryParam(), value)
+                    .build());
+        } else {
+            uriSpec = spec.uri(endpoint.getUriTemplate(), value);
+        }
+        return uriSpec.headers(requestHeaders -> requestHeaders.putAll(headers));
+    }
+
+    private static Map<MovieEndpoint, HttpHeaders> requestHeaders(){
+        Map<MovieEndpoint, HttpHeaders> requestHeaders = new EnumMap<>(MovieEndpoint.class);
+        for (MovieEndpoint endpoint : MovieEndpoint.values()){
+            HttpHeaders headers = new HttpHeaders();
+            if (endpoint == MovieEndpoint.GET_ALL_MOVIES_V1){
+                headers.setAccept(Arrays.asList(MediaType.APPLICATION_STREAM_JSON, MediaType.APPLICATION_JSON));
+            }
+            if (endpoint.getMethod() == HttpMethod.POST || endpoint.getMethod() == HttpMethod.PUT){
+                headers.setContentType(MediaType.APPLICATION_JSON);
+            }
+            requestHeaders.put(endpoint, HttpHeaders.readOnlyHttpHeaders(headers));
+        }
+        return requestHeaders;
+    }
+
+    private static Map<MovieEndpoint, RequestTemplate> compileTemplates(String baseUrl){
+        Map<MovieEndpoint, RequestTemplate> templates = new EnumMap<>(MovieEndpoint.class);
+        if (baseUrl != null){
+            for (MovieEndpoint endpoint : MovieEndpoint.values()){
+                templates.put(endpoint, RequestTemplate.compile(baseUrl, endpoint, REQUEST_HEADERS.get(endpoint)));
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * Layers, innermost first: tracing and metrics per request sent, then the circuit breaker and
+     * bulkhead for each attempt, then hedging and retry across attempts, then error mapping.
+     */
+    private <T> Mono<T> execute(MovieEndpoint endpoint, Mono<T> request){
+        Mono<T> traced = tracer == null ? request : tracer.trace(endpoint, request);
+        Mono<T> instrumented = metrics == null ? traced : metrics.instrument(endpoint, traced);
+        Mono<T> attempt = endpointGuard == null ? instrumented : endpointGuard.apply(endpoint, instrumented);
+        Mono<T> call = readResilience == null ? attempt : readResilience.apply(endpoint, attempt);
+        return call.onErrorMap(ex -> errorMapper.map(endpoint.getOperation(), ex));
+    }
+
+    private <T> Flux<T> execute(MovieEndpoint endpoint, Flux<T> request){
+        Flux<T> traced = tracer == null ? request : tracer.trace(endpoint, request);
+        Flux<T> instrumented = metrics == null ? traced : metrics.instrument(endpoint, traced);
+        Flux<T> attempt = endpointGuard == null ? instrumented : endpointGuard.apply(endpoint, instrumented);
+        Flux<T> call = readResilience == null ? attempt : readResilience.apply(endpoint, attempt);
+        return call.onErrorMap(ex -> errorMapper.map(endpoint.getOperation(), ex));
+    }
+}
@@ -0,0 +1,58 @@
+package com.rajesh.wiremock.tracing;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.AttributeKey;
+
+import java.net.SocketAddress;
+
+/**
+ * Times name resolution and the TCP connect of a new channel. It is added when the channel
+ * is registered; the bootstrap then resolves the address and only afterwards calls
+ * {@link #connect}, so the gap between the two is the lookup. Once connected it leaves the
+ * timings on the channel for the first request to {@link #claim} and removes itself.
+ */
+final class ConnectTimingHandler extends ChannelDuplexHandler {
+
+    static final String NAME = "movies.connect.timing";
+
+    private static final AttributeKey<long[]> TIMINGS = AttributeKey.valueOf(NAME);
+
+    private long registered;
+    private long connectStart;
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx){
+        registered = System.nanoTime();
+    }
+
+    @Override
+    public void connect(ChannelHandlerContext ctx, SocketAddress remoteAddress, SocketAddress localAddress,
+                        ChannelPromise promise) throws Exception {
+        connectStart = System.nanoTime();
+        super.connect(ctx, remoteAddress, localAddress, promise);
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        long dnsNanos = connectStart - registered;
+        long connectNanos = System.nanoTime() - connectStart;
+        ctx.channel().attr(TIMINGS).set(new long[]{dnsNanos, connectNanos});
+        ctx.pipeline().remove(this);
+        super.channelActive(ctx);
+    }
+
+    /**
+     * Takes the connect timings off {@code channel} if no earlier request has, and gives
+     * them to {@code trace} unless it is {@code null}. Call it for every request, traced or
+     * not, so the timings only ever go to the first request on the connection.
+     */
+    static void claim(Channel channel, RequestTrace trace){
+        long[] timings = channel.attr(TIMINGS).getAndSet(null);
+        if (timings != null && trace != null){
+            trace.connected(timings[0], timings[1]);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.rajesh.wiremock.tracing;
+
+/**
+ * The consecutive phases of one request, in the order they happen.
+ */
+public enum RequestPhase {
+
+    /** Waiting for a connection from the pool, excluding {@link #DNS} and {@link #CONNECT}. */
+    POOL_ACQUIRE,
+
+    /** Resolving the host name; only for requests that opened a new connection. */
+    DNS,
+
+    /** Establishing the TCP connection; only for requests that opened a new connection. */
+    CONNECT,
+
+    /** Writing and flushing the request headers and body. */
+    REQUEST_WRITE,
+
+    /** From the request being sent to the response headers arriving. */
+    TIME_TO_FIRST_BYTE,
+
+    /**
+     * Reading the response body. Bodies decoded as a stream, such as the movie lists, are
+     * decoded during this phase.
+     */
+    RESPONSE_BODY,
+
+    /** From the body being fully read to the result being emitted. */
+    DECODE
+}
@@ -0,0 +1,146 @@
+package com.rajesh.wiremock.tracing;
+
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import reactor.core.publisher.SignalType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Timestamps of one request to a movie endpoint, filled in by the {@link RequestTracer}
+ * hooks as the request goes through the connection pool and reactor-netty. Phases that did
+ * not happen, e.g. {@link RequestPhase#CONNECT} on a reused connection or
+ * {@link RequestPhase#RESPONSE_BODY} after a failed connect, have a duration of {@code -1}.
+ */
+public final class RequestTrace {
+
+    static final String CONTEXT_KEY = "movies.request.trace";
+
+    private static final long UNSET = -1;
+
+    private final MovieEndpoint endpoint;
+    private final long startTimeMillis;
+    private final long start;
+    private long dnsNanos = UNSET;
+    private long connectNanos = UNSET;
+    private long requestStart = UNSET;
+    private long requestSent = UNSET;
+    private long responseStart = UNSET;
+    private long responseEnd = UNSET;
+    private long end = UNSET;
+    private SignalType outcome;
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    RequestTrace(MovieEndpoint endpoint){
+        this.endpoint = endpoint;
+        this.startTimeMillis = System.currentTimeMillis();
+        this.start = System.nanoTime();
+    }
+
+    public MovieEndpoint getEndpoint(){
+        return endpoint;
+    }
+
+    /** Wall-clock time the request was subscribed to, for placing it on a trace timeline. */
+    public long getStartTimeMillis(){
+        return startTimeMillis;
+    }
+
+    /** Whether the request opened a new connection rather than reusing a pooled one. */
+    public boolean isNewConnection(){
+        return connectNanos != UNSET;
+    }
+
+    /** How the request finished: {@code ON_COMPLETE}, {@code ON_ERROR} or {@code CANCEL}. */
+    public SignalType getOutcome(){
+        return outcome;
+    }
+
+    public long getTotalNanos(){
+        return end - start;
+    }
+
+    /**
+     * @return nanoseconds spent in {@code phase}, or {@code -1} if the request did not go
+     * through it
+     */
+    public long getNanos(RequestPhase phase){
+        switch (phase){
+            case POOL_ACQUIRE:
+                return requestStart == UNSET ? UNSET
+                        : requestStart - start - Math.max(dnsNanos, 0) - Math.max(connectNanos, 0);
+            case DNS:
+                return dnsNanos;
+            case CONNECT:
+                return connectNanos;
+            case REQUEST_WRITE:
+                return between(requestStart, requestSent);
+            case TIME_TO_FIRST_BYTE:
+                return between(requestSent, responseStart);
+            case RESPONSE_BODY:
+                return between(responseStart, Math.min(responseEnd, end));
+            case DECODE:
+                return responseEnd == UNSET ? UNSET : Math.max(end - responseEnd, 0);
+            default:
+                throw new IllegalArgumentException("Unknown phase " + phase);
+        }
+    }
+
+    /** Durations of the phases the request went through, in order. */
+    public Map<RequestPhase, Long> getPhases(){
+        Map<RequestPhase, Long> phases = new EnumMap<>(RequestPhase.class);
+        for (RequestPhase phase : RequestPhase.values()){
+            long nanos = getNanos(phase);
+            if (nanos != UNSET){
+                phases.put(phase, nanos);
+            }
+        }
+        return phases;
+    }
+
+    void connected(long dnsNanos, long connectNanos){
+        this.dnsNanos = dnsNanos;
+        this.connectNanos = connectNanos;
+    }
+
+    void requestStarted(){
+        requestStart = System.nanoTime();
+    }
+
+    void requestSent(){
+        requestSent = System.nanoTime();
+    }
+
+    void responseStarted(){
+        responseStart = System.nanoTime();
+    }
+
+    void responseFinished(){
+        responseEnd = System.nanoTime();
+    }
+
+    /**
+     * @return {@code false} if the trace had already finished, e.g. a cancel after the value
+     */
+    boolean finished(SignalType outcome){
+        if (!finished.compareAndSet(false, true)){
+            return false;
+        }
+        this.end = System.nanoTime();
+        this.outcome = outcome;
+        return true;
+    }
+
+    private static long between(long from, long to){
+        return from == UNSET || to == UNSET ? UNSET : to - from;
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder description = new StringBuilder(endpoint.name()).append(' ').append(outcome);
+        getPhases().forEach((phase, nanos) -> description.append(' ').append(phase).append('=')
+                .append(nanos / 1_000).append("us"));
+        return description.append(" total=").append(getTotalNanos() / 1_000).append("us").toString();
+    }
+}
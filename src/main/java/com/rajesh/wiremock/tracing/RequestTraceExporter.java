@@ -0,0 +1,11 @@
+package com.rajesh.wiremock.tracing;
+
+/**
+ * Receives each sampled {@link RequestTrace} once its request has finished, on the thread
+ * that finished it. Implementations must be thread-safe and should not block.
+ */
+@FunctionalInterface
+public interface RequestTraceExporter {
+
+    void export(RequestTrace trace);
+}
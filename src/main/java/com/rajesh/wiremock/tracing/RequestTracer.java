@@ -0,0 +1,113 @@
+package com.rajesh.wiremock.tracing;
+
+import com.rajesh.wiremock.config.TracingConfig;
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.channel.BootstrapHandlers;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.context.Context;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples requests and breaks each sampled one down into {@link RequestPhase}s. A sampled
+ * request carries its {@link RequestTrace} in the subscriber context; the hooks added by
+ * {@link #instrument(HttpClient)} find it there and stamp each phase as reactor-netty
+ * reaches it. Requests that are not sampled only pay for one random number, a context
+ * lookup per hook and, on their connection's first request, clearing its connect timings.
+ */
+public class RequestTracer {
+
+    private final double sampleRate;
+    private final RequestTraceExporter exporter;
+
+    public RequestTracer(TracingConfig config, RequestTraceExporter exporter){
+        this.sampleRate = config.getSampleRate();
+        this.exporter = exporter;
+    }
+
+    /**
+     * Adds the phase hooks to {@code httpClient}: a handler on each new channel that times
+     * its name resolution and connect, and one on each traced response that marks the end
+     * of its body.
+     */
+    public static HttpClient instrument(HttpClient httpClient){
+        return httpClient
+                .tcpConfiguration(tcpClient -> tcpClient.bootstrap(bootstrap -> BootstrapHandlers.updateConfiguration(
+                        bootstrap, ConnectTimingHandler.NAME,
+                        (observer, channel) -> channel.pipeline().addFirst(ConnectTimingHandler.NAME, new ConnectTimingHandler()))))
+                .doOnRequest((request, connection) -> {
+                    RequestTrace trace = trace(request.currentContext());
+                    ConnectTimingHandler.claim(connection.channel(), trace);
+                    if (trace != null){
+                        trace.requestStarted();
+                    }
+                })
+                .doAfterRequest((request, connection) -> {
+                    RequestTrace trace = trace(request.currentContext());
+                    if (trace != null){
+                        trace.requestSent();
+                    }
+                })
+                .doOnResponse((response, connection) -> {
+                    RequestTrace trace = trace(response.currentContext());
+                    if (trace != null){
+                        trace.responseStarted();
+                        connection.addHandlerLast(ResponseEndHandler.NAME, new ResponseEndHandler(trace));
+                    }
+                });
+    }
+
+    public <T> Mono<T> trace(MovieEndpoint endpoint, Mono<T> request){
+        return Mono.defer(() -> {
+            if (!sample()){
+                return request;
+            }
+            RequestTrace trace = new RequestTrace(endpoint);
+            return request
+                    .doOnEach(signal -> {
+                        if (signal.isOnNext() || signal.isOnComplete()){
+                            finish(trace, SignalType.ON_COMPLETE);
+                        } else if (signal.isOnError()){
+                            finish(trace, SignalType.ON_ERROR);
+                        }
+                    })
+                    .doOnCancel(() -> finish(trace, SignalType.CANCEL))
+                    .subscriberContext(context -> context.put(RequestTrace.CONTEXT_KEY, trace));
+        });
+    }
+
+    public <T> Flux<T> trace(MovieEndpoint endpoint, Flux<T> request){
+        return Flux.defer(() -> {
+            if (!sample()){
+                return request;
+            }
+            RequestTrace trace = new RequestTrace(endpoint);
+            return request
+                    .doOnComplete(() -> finish(trace, SignalType.ON_COMPLETE))
+                    .doOnError(ex -> finish(trace, SignalType.ON_ERROR))
+                    .doOnCancel(() -> finish(trace, SignalType.CANCEL))
+                    .subscriberContext(context -> context.put(RequestTrace.CONTEXT_KEY, trace));
+        });
+    }
+
+    private boolean sample(){
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * Exports before the result is passed on, so the trace is complete by the time the
+     * caller sees the result.
+     */
+    private void finish(RequestTrace trace, SignalType outcome){
+        if (trace.finished(outcome)){
+            exporter.export(trace);
+        }
+    }
+
+    private static RequestTrace trace(Context context){
+        return context.getOrDefault(RequestTrace.CONTEXT_KEY, null);
+    }
+}
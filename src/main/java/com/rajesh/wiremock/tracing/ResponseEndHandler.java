@@ -0,0 +1,29 @@
+package com.rajesh.wiremock.tracing;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.LastHttpContent;
+
+/**
+ * Marks the moment the last chunk of a traced response body is read off the connection,
+ * before it is handed on to be decoded. Added when the response headers arrive and
+ * removed by reactor-netty when the response is done.
+ */
+final class ResponseEndHandler extends ChannelInboundHandlerAdapter {
+
+    static final String NAME = "movies.response.timing";
+
+    private final RequestTrace trace;
+
+    ResponseEndHandler(RequestTrace trace){
+        this.trace = trace;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof LastHttpContent){
+            trace.responseFinished();
+        }
+        super.channelRead(ctx, msg);
+    }
+}
@@ -0,0 +1,33 @@
+package com.rajesh.wiremock.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors for callers of the blocking {@link com.rajesh.wiremock.service.MoviesRestClient}.
+ * This is the Java 21 variant, packaged under {@code META-INF/versions/21}: each task runs on
+ * its own virtual thread, so thousands of callers blocked on a response cost a few hundred
+ * bytes of stack each rather than a platform thread.
+ */
+public final class BlockingExecutors {
+
+    private BlockingExecutors(){
+    }
+
+    /**
+     * @return whether {@link #newPerTaskExecutor(String)} runs tasks on virtual threads
+     */
+    public static boolean virtualThreads(){
+        return true;
+    }
+
+    /**
+     * An executor that starts a virtual thread for every task. Threads are named
+     * {@code namePrefix} plus a sequence number.
+     */
+    public static ExecutorService newPerTaskExecutor(String namePrefix){
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name(namePrefix, 0)
+                .factory());
+    }
+}
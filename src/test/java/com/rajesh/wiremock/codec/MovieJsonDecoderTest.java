@@ -0,0 +1,169 @@
+package com.rajesh.wiremock.codec;
+
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.dto.MovieTable;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MovieJsonDecoderTest {
+
+    private static final ResolvableType MOVIE = ResolvableType.forClass(Movie.class);
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+    private final MovieJsonDecoder decoder = new MovieJsonDecoder();
+    private final Jackson2JsonDecoder jacksonDecoder = new Jackson2JsonDecoder();
+
+    @Test
+    void testDecodesFixturesLikeJackson() throws IOException {
+        for (String fixture : new String[]{"all-movies.json", "avengers.json", "movie-by-year.json", "movie.json"}) {
+            byte[] json = Files.readAllBytes(Paths.get("src/test/resources/__files", fixture));
+
+            List<Movie> expected = jacksonDecoder.decode(Flux.just(wrap(json)), MOVIE,
+                    MediaType.APPLICATION_JSON, Collections.emptyMap())
+                    .cast(Movie.class)
+                    .collectList()
+                    .block();
+            List<Movie> actual = decoder.decode(Flux.just(wrap(json)), MOVIE,
+                    MediaType.APPLICATION_JSON, Collections.emptyMap())
+                    .collectList()
+                    .block();
+
+            assertEquals(expected, actual, fixture);
+        }
+    }
+
+    @Test
+    void testDecodesInputSplitAtEveryByte() throws IOException {
+        byte[] json = Files.readAllBytes(Paths.get("src/test/resources/__files/all-movies.json"));
+        List<DataBuffer> chunks = new ArrayList<>();
+        for (byte b : json) {
+            chunks.add(wrap(new byte[]{b}));
+        }
+
+        List<Movie> movies = decoder.decode(Flux.fromIterable(chunks), MOVIE,
+                MediaType.APPLICATION_JSON, Collections.emptyMap())
+                .collectList()
+                .block();
+
+        assertFalse(movies.isEmpty());
+        assertEquals("Batman Begins", movies.get(0).getName());
+        assertEquals(LocalDate.of(2005, 6, 15), movies.get(0).getRelease_date());
+    }
+
+    @Test
+    void testDecodesStreamJsonWithStringNumbersAndDateArrays() {
+        String json = "{\"movie_id\": \"3\", \"name\": \"Dark Knight\", \"year\": \"2008\", \"extra\": {\"year\": 1}}\n"
+                + "{\"movie_id\": 4, \"cast\": null, \"release_date\": [2012, 5, 4], \"tags\": [1, [2]]}\n";
+
+        List<Movie> movies = decoder.decode(Flux.just(wrap(json.getBytes(StandardCharsets.UTF_8))), MOVIE,
+                MediaType.APPLICATION_STREAM_JSON, Collections.emptyMap())
+                .collectList()
+                .block();
+
+        assertEquals(2, movies.size());
+        assertEquals(new Movie(3L, "Dark Knight", null, 2008, null), movies.get(0));
+        assertEquals(new Movie(4L, null, null, null, LocalDate.of(2012, 5, 4)), movies.get(1));
+    }
+
+    @Test
+    void testDecodesTableLikeJackson() throws IOException {
+        for (String fixture : new String[]{"all-movies.json", "avengers.json", "movie-by-year.json"}) {
+            byte[] json = Files.readAllBytes(Paths.get("src/test/resources/__files", fixture));
+
+            List<Movie> expected = jacksonDecoder.decode(Flux.just(wrap(json)), MOVIE,
+                    MediaType.APPLICATION_JSON, Collections.emptyMap())
+                    .cast(Movie.class)
+                    .collectList()
+                    .block();
+            MovieTable table = MovieJsonDecoder.decodeTable(Flux.just(wrap(json))).block();
+
+            assertEquals(expected, table.asList(), fixture);
+            assertEquals(expected.size(), table.size(), fixture);
+        }
+    }
+
+    @Test
+    void testTableSharesRepeatedCastAndKeepsNulls() {
+        String json = "{\"movie_id\": 1, \"name\": \"Avengers\", \"cast\": \"RDJ, Chris Evans\", \"year\": 2012}\n"
+                + "{\"movie_id\": 2, \"name\": \"Age of Ultron\", \"cast\": \"RDJ, Chris Evans\"}\n"
+                + "{\"name\": \"Untitled\", \"release_date\": \"2019-04-26\"}\n";
+        List<DataBuffer> chunks = new ArrayList<>();
+        for (byte b : json.getBytes(StandardCharsets.UTF_8)) {
+            chunks.add(wrap(new byte[]{b}));
+        }
+
+        MovieTable table = MovieJsonDecoder.decodeTable(Flux.fromIterable(chunks)).block();
+
+        assertEquals(3, table.size());
+        assertEquals(1, table.distinctCastCount());
+        assertSame(table.getCast(0), table.getCast(1));
+        assertEquals(new Movie(2L, "Age of Ultron", "RDJ, Chris Evans", null, null), table.get(1));
+        assertEquals(new Movie(null, "Untitled", null, null, LocalDate.of(2019, 4, 26)), table.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(3));
+        assertEquals(2L, table.getMovieIdAsLong(1));
+        assertEquals(2012, table.getYearAsInt(0));
+        assertFalse(table.hasYear(1));
+        assertThrows(NoSuchElementException.class, () -> table.getYearAsInt(1));
+        assertFalse(table.hasMovieId(2));
+        assertThrows(NoSuchElementException.class, () -> table.getMovieIdAsLong(2));
+        assertTrue(table.hasReleaseDate(2));
+        assertEquals(LocalDate.of(2019, 4, 26).toEpochDay(), table.getReleaseEpochDay(2));
+    }
+
+    @Test
+    void testDecodeTableReportsMalformedJson() {
+        Flux<DataBuffer> json = Flux.just(wrap("[{\"movie_id\": 1,".getBytes(StandardCharsets.UTF_8)));
+
+        assertThrows(DecodingException.class, () -> MovieJsonDecoder.decodeTable(json).block());
+    }
+
+    @Test
+    void testEpochDayMatchesLocalDate() {
+        for (LocalDate date = LocalDate.of(1899, 12, 25); date.getYear() < 2101; date = date.plusDays(17)) {
+            assertEquals(date.toEpochDay(), MovieJsonParser.parseIsoDate(date.toString()));
+        }
+    }
+
+    @Test
+    void testRejectsInvalidDatesLikeJackson() {
+        for (String date : new String[]{"\"2019-02-29\"", "\"2019-02-31\"", "\"2019-04-31\"", "[2019, 2, 31]"}) {
+            byte[] json = ("{\"movie_id\": 1, \"release_date\": " + date + "}").getBytes(StandardCharsets.UTF_8);
+
+            assertThrows(DecodingException.class, () -> jacksonDecoder.decode(Flux.just(wrap(json)), MOVIE,
+                    MediaType.APPLICATION_JSON, Collections.emptyMap()).blockLast(), date);
+            assertThrows(DecodingException.class, () -> decoder.decode(Flux.just(wrap(json)), MOVIE,
+                    MediaType.APPLICATION_JSON, Collections.emptyMap()).blockLast(), date);
+        }
+        assertEquals(LocalDate.of(2020, 2, 29).toEpochDay(), MovieJsonParser.parseIsoDate("2020-02-29"));
+        assertEquals(LocalDate.of(2000, 2, 29).toEpochDay(), MovieJsonParser.parseIsoDate("2000-02-29"));
+    }
+
+    @Test
+    void testOnlyClaimsMovie() {
+        assertTrue(decoder.canDecode(MOVIE, MediaType.APPLICATION_JSON));
+        assertFalse(decoder.canDecode(ResolvableType.forClass(Object.class), MediaType.APPLICATION_JSON));
+        assertFalse(decoder.canDecode(ResolvableType.forClass(String.class), MediaType.APPLICATION_JSON));
+    }
+
+    private DataBuffer wrap(byte[] bytes) {
+        return bufferFactory.wrap(bytes);
+    }
+}
@@ -0,0 +1,39 @@
+package com.rajesh.wiremock.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockingExecutorsTest {
+
+    /** Set by the {@code java21Test} task, which puts the Java 21 variants on the class path. */
+    private static final boolean JAVA21_CLASSES = Boolean.getBoolean("movies.test.java21Classes");
+
+    @Test
+    void testRunsTasksOnNamedThreadsOfTheExpectedKind() throws Exception {
+        //Given
+        ExecutorService executor = BlockingExecutors.newPerTaskExecutor("movies-test-");
+
+        //When
+        Thread thread = executor.submit(Thread::currentThread).get();
+        executor.shutdown();
+
+        //Then
+        assertEquals(JAVA21_CLASSES, BlockingExecutors.virtualThreads());
+        assertEquals(JAVA21_CLASSES, isVirtual(thread));
+        assertTrue(thread.getName().startsWith("movies-test-"), thread.getName());
+    }
+
+    /**
+     * {@code Thread.isVirtual()} through reflection, since the tests are compiled for Java 8.
+     */
+    private static boolean isVirtual(Thread thread) throws Exception {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
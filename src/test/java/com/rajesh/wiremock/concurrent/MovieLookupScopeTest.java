@@ -0,0 +1,149 @@
+package com.rajesh.wiremock.concurrent;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.MoviesRestClientFactory;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.rajesh.wiremock.constants.MoviesAppConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedWireMockExtension.class)
+public class MovieLookupScopeTest {
+
+    MoviesRestClientFactory factory;
+    MoviesRestClient moviesRestClient;
+
+    StubNamespace wireMock;
+
+    @BeforeEach
+    void setUp() {
+        factory = new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(wireMock.baseUrl())
+                .build());
+        moviesRestClient = factory.moviesRestClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.dispose();
+    }
+
+    private static ResponseDefinitionBuilder json(HttpStatus status) {
+        return WireMock.aResponse()
+                .withStatus(status.value())
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    @Test
+    void testFanOutByNameAndYear() throws InterruptedException {
+        //Given
+        wireMock.stubFor(get(urlPathEqualTo(GET_MOVIES_BY_NAME))
+                .willReturn(json(HttpStatus.OK).withBodyFile("avengers.json")));
+        wireMock.stubFor(get(urlPathEqualTo(GET_MOVIES_BY_YEAR))
+                .willReturn(json(HttpStatus.OK).withBodyFile("movie-by-year.json")));
+
+        //When
+        List<Movie> byName;
+        List<Movie> byYear;
+        try (MovieLookupScope scope = factory.lookupScope()) {
+            MovieLookupScope.Subtask<List<Movie>> nameLookup = scope.fork(() -> moviesRestClient.retrieveMoviesByName("Avengers"));
+            MovieLookupScope.Subtask<List<Movie>> yearLookup = scope.fork(() -> moviesRestClient.retrieveMoviesByYear(2012));
+            scope.join();
+            byName = nameLookup.get();
+            byYear = yearLookup.get();
+        }
+
+        //Then
+        assertFalse(byName.isEmpty());
+        assertFalse(byYear.isEmpty());
+    }
+
+    @Test
+    void testFirstFailureCancelsSiblings() throws InterruptedException {
+        //Given
+        wireMock.stubFor(get(urlPathEqualTo(GET_MOVIES_BY_NAME))
+                .willReturn(json(HttpStatus.OK).withBodyFile("avengers.json").withFixedDelay(5000)));
+        wireMock.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(json(HttpStatus.NOT_FOUND).withBodyFile("404-movie-id.json")));
+
+        //When
+        MovieLookupScope.Subtask<List<Movie>> slowLookup;
+        long start = System.nanoTime();
+        try (MovieLookupScope scope = factory.lookupScope()) {
+            slowLookup = scope.fork(() -> moviesRestClient.retrieveMoviesByName("Avengers"));
+            scope.fork(() -> moviesRestClient.retrieveMovieById(100));
+            assertThrows(MovieErrorResponse.class, scope::join);
+        }
+
+        //Then
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(4)) < 0);
+        assertTrue(slowLookup.isCancelled());
+        assertThrows(IllegalStateException.class, slowLookup::get);
+    }
+
+    @Test
+    void testJoinTimeout() throws InterruptedException {
+        //Given
+        wireMock.stubFor(get(urlPathEqualTo(GET_MOVIES_BY_YEAR))
+                .willReturn(json(HttpStatus.OK).withBodyFile("movie-by-year.json").withFixedDelay(5000)));
+
+        //When
+        MovieLookupScope.Subtask<List<Movie>> yearLookup;
+        try (MovieLookupScope scope = factory.lookupScope()) {
+            yearLookup = scope.fork(() -> moviesRestClient.retrieveMoviesByYear(2012));
+            MovieErrorResponse error = assertThrows(MovieErrorResponse.class, () -> scope.join(Duration.ofMillis(200)));
+
+            //Then
+            assertTrue(error.getMessage().contains("200ms"));
+        }
+        assertTrue(yearLookup.isCancelled());
+    }
+
+    @Test
+    void testCloseWaitsForInterruptedLookups() throws InterruptedException {
+        //Given
+        ExecutorService executor = BlockingExecutors.newPerTaskExecutor("movies-test-");
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean exited = new AtomicBoolean();
+        MovieLookupScope scope = new MovieLookupScope(executor);
+        MovieLookupScope.Subtask<String> slowToUnwind = scope.fork(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                Thread.sleep(200);
+            }
+            exited.set(true);
+            return "done";
+        });
+        started.await();
+
+        //When
+        scope.close();
+
+        //Then
+        assertTrue(exited.get());
+        assertTrue(slowToUnwind.isCancelled());
+        executor.shutdown();
+    }
+}
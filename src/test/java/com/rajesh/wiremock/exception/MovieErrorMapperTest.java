@@ -0,0 +1,131 @@
+package com.rajesh.wiremock.exception;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.resilience.Failures;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.MoviesRestClientFactory;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.Arrays;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedWireMockExtension.class)
+public class MovieErrorMapperTest {
+
+    MoviesRestClientFactory factory;
+
+    StubNamespace wireMock;
+
+    @BeforeEach
+    void setUp() {
+        wireMock.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("404-movie-id.json")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.dispose();
+    }
+
+    private MoviesRestClient newClient(MovieErrorMapper.Mode errorMode) {
+        factory = new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(wireMock.baseUrl())
+                .errorMode(errorMode)
+                .build());
+        return factory.moviesRestClient();
+    }
+
+    @Test
+    void testFullMode_KeepsStatusBodyAndCause() {
+        //Given
+        MoviesRestClient moviesRestClient = newClient(MovieErrorMapper.Mode.FULL);
+
+        //When
+        MovieErrorResponse error = assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(100));
+
+        //Then
+        assertEquals(404, error.getStatusCode());
+        assertEquals("Not Found", error.getStatusText());
+        assertTrue(error.isClientError());
+        assertTrue(error.getResponseBody().contains("100"));
+        assertTrue(error.getCause() instanceof WebClientResponseException);
+        assertTrue(error.getStackTrace().length > 0);
+    }
+
+    @Test
+    void testStacklessMode() {
+        //Given
+        MoviesRestClient moviesRestClient = newClient(MovieErrorMapper.Mode.STACKLESS);
+
+        //When
+        MovieErrorResponse first = assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(100));
+        MovieErrorResponse second = assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(100));
+
+        //Then
+        assertEquals(404, first.getStatusCode());
+        assertTrue(first.getResponseBody().contains("100"));
+        assertNull(first.getCause());
+        assertEquals(0, first.getStackTrace().length);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void testPreallocatedMode_SharesClientErrorsButNotServerErrors() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/500"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .withBody("down for maintenance")));
+        MoviesRestClient moviesRestClient = newClient(MovieErrorMapper.Mode.PREALLOCATED);
+
+        //When
+        MovieErrorResponse first = assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(100));
+        MovieErrorResponse second = assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(101));
+        MovieErrorResponse serverError = assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(500));
+
+        //Then
+        assertSame(first, second);
+        assertEquals(404, first.getStatusCode());
+        assertEquals("", first.getResponseBody());
+        assertEquals("down for maintenance", serverError.getResponseBody());
+        assertTrue(Failures.isTransient(serverError));
+        assertFalse(Failures.isTransient(first));
+    }
+
+    @Test
+    void testResponseBodyIsBounded() {
+        //Given
+        char[] body = new char[5000];
+        Arrays.fill(body, 'x');
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/400"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.BAD_REQUEST.value())
+                        .withBody(new String(body))));
+
+        //When
+        MovieErrorResponse full = assertThrows(MovieErrorResponse.class,
+                () -> newClient(MovieErrorMapper.Mode.FULL).retrieveMovieById(400));
+        factory.dispose();
+        MovieErrorResponse stackless = assertThrows(MovieErrorResponse.class,
+                () -> newClient(MovieErrorMapper.Mode.STACKLESS).retrieveMovieById(400));
+
+        //Then
+        assertEquals(MovieErrorResponse.MAX_BODY_BYTES, full.getResponseBodyAsByteArray().length);
+        assertEquals(MovieErrorResponse.MAX_BODY_BYTES, stackless.getResponseBodyAsByteArray().length);
+    }
+}
@@ -0,0 +1,26 @@
+package com.rajesh.wiremock.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimitedLoggerTest {
+
+    @Test
+    void testDropsAndCountsMessagesOverTheLimit() {
+        AtomicLong now = new AtomicLong();
+        RateLimitedLogger logger = new RateLimitedLogger(2, 1000, now::get);
+
+        assertEquals(0, logger.acquire("retrieveMovieById"));
+        assertEquals(0, logger.acquire("retrieveMovieById"));
+        assertEquals(RateLimitedLogger.DENIED, logger.acquire("retrieveMovieById"));
+        assertEquals(RateLimitedLogger.DENIED, logger.acquire("retrieveMovieById"));
+        assertEquals(0, logger.acquire("addMovie"));
+
+        now.addAndGet(1000);
+        assertEquals(2, logger.acquire("retrieveMovieById"));
+        assertEquals(0, logger.acquire("retrieveMovieById"));
+    }
+}
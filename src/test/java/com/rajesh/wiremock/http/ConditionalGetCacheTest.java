@@ -0,0 +1,162 @@
+package com.rajesh.wiremock.http;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.MoviesRestClientFactory;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.rajesh.wiremock.constants.MoviesAppConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedWireMockExtension.class)
+public class ConditionalGetCacheTest {
+
+    private static final String ETAG = "\"all-movies-v1\"";
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+    MoviesRestClientFactory factory;
+    MoviesRestClient moviesRestClient;
+
+    StubNamespace wireMock;
+
+    @BeforeEach
+    void setUp() {
+        factory = new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(wireMock.baseUrl())
+                .conditionalGets(true)
+                .build());
+        moviesRestClient = factory.moviesRestClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.dispose();
+    }
+
+    @Test
+    void testRetrieveAllMovies_NotModified() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withHeader(HttpHeaders.ETAG, ETAG)
+                        .withBodyFile("all-movies.json")));
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo(ETAG))
+                .atPriority(1)
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_MODIFIED.value())
+                        .withHeader(HttpHeaders.ETAG, ETAG)));
+
+        //When
+        List<Movie> first = moviesRestClient.retrieveAllMovies();
+        List<Movie> second = moviesRestClient.retrieveAllMovies();
+
+        //Then
+        assertEquals(first, second);
+        assertEquals("Batman Begins", second.get(0).getName());
+        assertEquals(1, factory.conditionalGetCache().modifiedCount());
+        assertEquals(1, factory.conditionalGetCache().notModifiedCount());
+        wireMock.verify(1, getRequestedFor(urlEqualTo(GET_ALL_MOVIES_V1))
+                .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo(ETAG)));
+    }
+
+    @Test
+    void testRetrieveMoviesByYear_LastModified() {
+        //Given
+        wireMock.stubFor(get(urlPathEqualTo(GET_MOVIES_BY_YEAR))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withHeader(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED)
+                        .withBodyFile("movie-by-year.json")));
+        wireMock.stubFor(get(urlPathEqualTo(GET_MOVIES_BY_YEAR))
+                .withQueryParam("year", equalTo("2012"))
+                .withHeader(HttpHeaders.IF_MODIFIED_SINCE, equalTo(LAST_MODIFIED))
+                .atPriority(1)
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_MODIFIED.value())));
+
+        //When
+        List<Movie> first = moviesRestClient.retrieveMoviesByYear(2012);
+        List<Movie> second = moviesRestClient.retrieveMoviesByYear(2012);
+        moviesRestClient.retrieveMoviesByYear(2008);
+
+        //Then
+        assertEquals(first, second);
+        assertEquals(1, factory.conditionalGetCache().notModifiedCount());
+        wireMock.verify(0, getRequestedFor(urlEqualTo(GET_MOVIES_BY_YEAR + "?year=2008"))
+                .withHeader(HttpHeaders.IF_MODIFIED_SINCE, matching(".*")));
+    }
+
+    @Test
+    void testRetrieveAllMovies_ChangedAndWithoutValidators() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("all-movies.json")));
+
+        //When
+        moviesRestClient.retrieveAllMovies();
+        List<Movie> second = moviesRestClient.retrieveAllMovies();
+
+        //Then
+        assertFalse(second.isEmpty());
+        assertEquals(2, factory.conditionalGetCache().modifiedCount());
+        wireMock.verify(0, getRequestedFor(urlEqualTo(GET_ALL_MOVIES_V1))
+                .withHeader(HttpHeaders.IF_NONE_MATCH, matching(".*")));
+    }
+
+    @Test
+    void testRetrieveMoviesByName_ErrorResponse() {
+        //Given
+        wireMock.stubFor(get(urlPathEqualTo(GET_MOVIES_BY_NAME))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBody("{\"message\": \"No movie available with the given name - ABC\"}")));
+
+        //When
+        MovieErrorResponse error = assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMoviesByName("ABC"));
+
+        //Then
+        assertEquals(404, error.getStatusCode());
+        assertTrue(error.getResponseBody().contains("ABC"));
+    }
+
+    @Test
+    void testRetrieveAllMovies_NotModifiedWithoutStoredResult() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_MODIFIED.value())
+                        .withHeader(HttpHeaders.ETAG, ETAG)));
+
+        //When
+        MovieErrorResponse error = assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveAllMovies());
+
+        //Then
+        assertEquals(304, error.getStatusCode());
+        assertEquals(0, factory.conditionalGetCache().modifiedCount());
+        assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveAllMovies());
+        wireMock.verify(0, getRequestedFor(urlEqualTo(GET_ALL_MOVIES_V1))
+                .withHeader(HttpHeaders.IF_NONE_MATCH, matching(".*")));
+    }
+}
@@ -0,0 +1,61 @@
+package com.rajesh.wiremock.http;
+
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestTemplateTest {
+
+    private static final String BASE_URL = "http://localhost:8081/";
+
+    private static RequestTemplate compile(MovieEndpoint endpoint) {
+        return RequestTemplate.compile(BASE_URL, endpoint, new HttpHeaders());
+    }
+
+    @Test
+    void testFixedUriIsReused() {
+        RequestTemplate template = compile(MovieEndpoint.GET_ALL_MOVIES_V1);
+
+        assertEquals("http://localhost:8081/movieservice/v1/allMovies", template.expand().toString());
+        assertSame(template.expand(), template.expand());
+        assertThrows(IllegalStateException.class, () -> template.expand(1));
+    }
+
+    @Test
+    void testPathVariable() {
+        RequestTemplate template = compile(MovieEndpoint.GET_MOVIE_BY_ID);
+
+        assertEquals("http://localhost:8081/movieservice/v1/movie/1", template.expand(1).toString());
+        assertEquals("http://localhost:8081/movieservice/v1/movie/a%2Fb%20c", template.expand("a/b c").toString());
+        assertThrows(IllegalStateException.class, template::expand);
+    }
+
+    @Test
+    void testQueryValue() {
+        RequestTemplate byName = compile(MovieEndpoint.GET_MOVIES_BY_NAME);
+        RequestTemplate byYear = compile(MovieEndpoint.GET_MOVIES_BY_YEAR);
+
+        assertEquals("http://localhost:8081/movieservice/v1/movieName?movie_name=Avengers",
+                byName.expand("Avengers").toString());
+        assertEquals("http://localhost:8081/movieservice/v1/movieName?movie_name=The%20Dark%20Knight%26co",
+                byName.expand("The Dark Knight&co").toString());
+        assertEquals("The Dark Knight&co", byName.expand("The Dark Knight&co").getQuery().substring("movie_name=".length()));
+        assertEquals("http://localhost:8081/movieservice/v1/movieYear?year=2012", byYear.expand(2012).toString());
+    }
+
+    @Test
+    void testHeadersAreReadOnly() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        RequestTemplate template = RequestTemplate.compile(BASE_URL, MovieEndpoint.ADD_MOVIE_V1, headers);
+        HttpHeaders requestHeaders = new HttpHeaders();
+
+        template.headersInitializer().accept(requestHeaders);
+
+        assertEquals(MediaType.APPLICATION_JSON, requestHeaders.getContentType());
+        assertThrows(UnsupportedOperationException.class, () -> template.getHeaders().setContentLength(1));
+    }
+}
@@ -0,0 +1,149 @@
+package com.rajesh.wiremock.index;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.service.ReactiveMoviesRestClient;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.rajesh.wiremock.constants.MoviesAppConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedWireMockExtension.class)
+public class MovieIndexTest {
+
+    MovieIndex movieIndex;
+
+    StubNamespace wireMock;
+
+    @BeforeEach
+    void setUp() {
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("all-movies.json")));
+        String baseUrl = wireMock.baseUrl();
+        movieIndex = new MovieIndex(new ReactiveMoviesRestClient(WebClient.create(baseUrl)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        movieIndex.close();
+    }
+
+    private static List<Long> ids(List<Movie> movies) {
+        return movies.stream().map(Movie::getMovie_id).collect(Collectors.toList());
+    }
+
+    @Test
+    void testQueriesAfterBootstrap() {
+        //When
+        movieIndex.start(Duration.ofMinutes(1));
+
+        //Then
+        assertTrue(movieIndex.isReady());
+        assertEquals(10, movieIndex.size());
+        assertEquals(2, movieIndex.moviesByYear(2012).size());
+        assertTrue(movieIndex.moviesByYear(1999).isEmpty());
+        assertEquals(4, movieIndex.moviesByName("Avengers").size());
+        assertEquals(ids(movieIndex.moviesByName("dark kni")), ids(movieIndex.moviesByName("KNIGHT dark")));
+        assertEquals(2, movieIndex.moviesByName("dark kni").size());
+        assertTrue(movieIndex.moviesByName("Avengers Batman").isEmpty());
+        assertEquals("Batman Begins", movieIndex.movieById(1L).getName());
+    }
+
+    @Test
+    void testRefreshOnlyRebuildsWhenTheCatalogueChanged() {
+        //Given
+        movieIndex.refresh().block();
+
+        //When
+        Boolean unchanged = movieIndex.refresh().block();
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBody("[{\"movie_id\": 1, \"name\": \"Batman Begins\", \"year\": 2005}]")));
+        Boolean changed = movieIndex.refresh().block();
+
+        //Then
+        assertFalse(unchanged);
+        assertTrue(changed);
+        assertEquals(1, movieIndex.size());
+        assertTrue(movieIndex.moviesByYear(2012).isEmpty());
+    }
+
+    @Test
+    void testLocalWrites() {
+        //Given
+        movieIndex.refresh().block();
+
+        //When
+        movieIndex.upsert(new Movie(11L, "Toy Story 4", "Tom Hanks, Tim Allen", 2019, LocalDate.of(2019, 6, 20)));
+        movieIndex.upsert(new Movie(4L, "The Avengers", "Robert Downey Jr", 2013, null));
+        movieIndex.remove(1L);
+
+        //Then
+        assertEquals(10, movieIndex.size());
+        assertEquals(2, movieIndex.moviesByYear(2019).size());
+        assertEquals(1, movieIndex.moviesByYear(2012).size());
+        assertEquals(4L, movieIndex.moviesByYear(2013).get(0).getMovie_id());
+        assertTrue(movieIndex.moviesByName("batman").isEmpty());
+    }
+
+    @Test
+    void testRefreshDoesNotOverwriteConcurrentLocalWrites() throws Exception {
+        //Given
+        movieIndex.refresh().block();
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .inScenario("write").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withFixedDelay(500)
+                        .withBodyFile("movie-by-year.json"))
+                .willSetStateTo("written"));
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .inScenario("write").whenScenarioStateIs("written")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBody("[{\"movie_id\": 11, \"name\": \"Toy Story 4\", \"year\": 2019}]")));
+
+        //When
+        CompletableFuture<Boolean> refreshed = movieIndex.refresh().toFuture();
+        Thread.sleep(200);
+        movieIndex.upsert(new Movie(11L, "Toy Story 4", "Tom Hanks, Tim Allen", 2019, LocalDate.of(2019, 6, 20)));
+
+        //Then
+        assertTrue(refreshed.get(5, TimeUnit.SECONDS));
+        assertEquals(1, movieIndex.size());
+        assertEquals("Toy Story 4", movieIndex.movieById(11L).getName());
+        wireMock.verify(3, getRequestedFor(urlEqualTo(GET_ALL_MOVIES_V1)));
+    }
+
+    @Test
+    void testTokenize() {
+        assertEquals(java.util.Arrays.asList("avengers", "age", "of", "ultron"),
+                MovieIndexSnapshot.tokenize("Avengers: Age of Ultron"));
+        assertTrue(MovieIndexSnapshot.tokenize(" - ").isEmpty());
+    }
+}
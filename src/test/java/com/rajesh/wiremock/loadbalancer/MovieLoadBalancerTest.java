@@ -0,0 +1,238 @@
+package com.rajesh.wiremock.loadbalancer;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.rajesh.wiremock.config.LoadBalancerConfig;
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.MoviesRestClientFactory;
+import com.rajesh.wiremock.service.ReactiveMoviesRestClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MovieLoadBalancerTest {
+
+    final List<WireMockServer> servers = new ArrayList<>();
+    MoviesRestClientFactory factory;
+
+    @AfterEach
+    void tearDown() {
+        if (factory != null) {
+            factory.dispose();
+        }
+        servers.forEach(WireMockServer::stop);
+    }
+
+    @Test
+    void testPrefersFasterInstance() {
+        //Given
+        WireMockServer fast = startInstance(HttpStatus.OK, 0);
+        WireMockServer slow = startInstance(HttpStatus.OK, 150);
+        MoviesRestClient moviesRestClient = newClient(LoadBalancerConfig.builder()
+                .instances(baseUrls()));
+
+        //When
+        for (int i = 0; i < 30; i++) {
+            moviesRestClient.retrieveMovieById(1);
+        }
+
+        //Then
+        assertTrue(requestCount(slow) <= 2, "slow instance got " + requestCount(slow));
+        assertEquals(30, requestCount(fast) + requestCount(slow));
+    }
+
+    @Test
+    void testEjectsFailingInstance() {
+        //Given
+        WireMockServer healthy = startInstance(HttpStatus.OK, 0);
+        WireMockServer failing = startInstance(HttpStatus.SERVICE_UNAVAILABLE, 0);
+        MoviesRestClient moviesRestClient = newClient(LoadBalancerConfig.builder()
+                .instances(baseUrls())
+                .strategy(LoadBalancingStrategy.roundRobin())
+                .consecutiveFailures(3));
+
+        //When
+        int failures = 0;
+        for (int i = 0; i < 20; i++) {
+            try {
+                moviesRestClient.retrieveMovieById(1);
+            } catch (MovieErrorResponse ex) {
+                failures++;
+            }
+        }
+
+        //Then
+        assertEquals(3, failures);
+        assertEquals(3, requestCount(failing));
+        assertEquals(17, requestCount(healthy));
+        assertTrue(factory.loadBalancer().instances().get(1).isEjected());
+        assertFalse(factory.loadBalancer().instances().get(0).isEjected());
+    }
+
+    @Test
+    void testEjectsAtMostMaxEjectedFraction() {
+        //Given
+        startInstance(HttpStatus.SERVICE_UNAVAILABLE, 0);
+        startInstance(HttpStatus.SERVICE_UNAVAILABLE, 0);
+        MoviesRestClient moviesRestClient = newClient(LoadBalancerConfig.builder()
+                .instances(baseUrls())
+                .consecutiveFailures(2)
+                .maxEjectedFraction(0.5));
+
+        //When
+        for (int i = 0; i < 10; i++) {
+            assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(1));
+        }
+
+        //Then
+        assertEquals(1, factory.loadBalancer().instances().stream().filter(ServiceInstance::isEjected).count());
+    }
+
+    @Test
+    void testRoutesPathAndQueryToEachInstance() {
+        //Given
+        WireMockServer first = startInstance(HttpStatus.OK, 0);
+        WireMockServer second = startInstance(HttpStatus.OK, 0);
+        MoviesRestClient moviesRestClient = newClient(LoadBalancerConfig.builder()
+                .instances(baseUrls())
+                .strategy(LoadBalancingStrategy.roundRobin()));
+
+        //When
+        moviesRestClient.retrieveMoviesByName("Avengers");
+        moviesRestClient.retrieveMoviesByName("Avengers");
+
+        //Then
+        for (WireMockServer server : new WireMockServer[]{first, second}) {
+            server.verify(1, getRequestedFor(urlPathEqualTo("/movieservice/v1/movieName"))
+                    .withQueryParam("movie_name", equalTo("Avengers")));
+        }
+    }
+
+    @Test
+    void testRejectsInstanceWithPath() {
+        //Given
+        LoadBalancerConfig config = LoadBalancerConfig.builder()
+                .instances(Arrays.asList("http://movies-1:8081", "http://movies-2:8081/movies"))
+                .build();
+
+        //When
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new MovieLoadBalancer(config));
+
+        //Then
+        assertTrue(ex.getMessage().endsWith("http://movies-2:8081/movies"));
+        assertEquals(2, new MovieLoadBalancer(LoadBalancerConfig.builder()
+                .instances(Arrays.asList("http://movies-1:8081", "http://movies-2:8081/"))
+                .build()).instances().size());
+    }
+
+    @Test
+    void testPendingAcquireLimitCountsEveryInstancePool() throws Exception {
+        //Given
+        startInstance(HttpStatus.OK, 1000);
+        WireMockServer fast = startInstance(HttpStatus.OK, 0);
+        newClient(MoviesClientConfig.builder()
+                        .maxConnections(1)
+                        .maxPendingAcquires(0),
+                LoadBalancerConfig.builder()
+                        .instances(baseUrls())
+                        .strategy(LoadBalancingStrategy.roundRobin()));
+        ReactiveMoviesRestClient reactiveClient = factory.reactiveMoviesRestClient();
+        CompletableFuture<Movie> toSlow = reactiveClient.retrieveMovieById(1).toFuture();
+        while (factory.poolStats().getActive() < 1) {
+            Thread.sleep(10);
+        }
+
+        //When
+        Movie fromFast = reactiveClient.retrieveMovieById(1).block();
+
+        //Then
+        assertEquals("Batman Begins", fromFast.getName());
+        assertEquals(1, requestCount(fast));
+        assertEquals(2, factory.poolStats().getMaxConnections());
+        assertNotNull(toSlow.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCancelWhileReadingBodyIsNotCountedTwice() {
+        //Given
+        WireMockServer dribbling = startInstance(HttpStatus.OK, 0);
+        dribbling.stubFor(get(urlEqualTo("/movieservice/v1/movie/1"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")
+                        .withChunkedDribbleDelay(20, 4000)));
+        newClient(LoadBalancerConfig.builder()
+                .instances(baseUrls()));
+        ReactiveMoviesRestClient reactiveClient = factory.reactiveMoviesRestClient();
+
+        //When
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class,
+                    () -> reactiveClient.retrieveMovieById(1).timeout(Duration.ofMillis(1000)).block());
+        }
+
+        //Then
+        ServiceInstance instance = factory.loadBalancer().instances().get(0);
+        assertEquals(0, instance.getOutstanding());
+        assertEquals(3, instance.getRequests());
+    }
+
+    private MoviesRestClient newClient(LoadBalancerConfig.LoadBalancerConfigBuilder loadBalancer) {
+        return newClient(MoviesClientConfig.builder(), loadBalancer);
+    }
+
+    private MoviesRestClient newClient(MoviesClientConfig.MoviesClientConfigBuilder client,
+                                       LoadBalancerConfig.LoadBalancerConfigBuilder loadBalancer) {
+        factory = new MoviesRestClientFactory(client
+                .loadBalancer(loadBalancer.build())
+                .build());
+        return factory.moviesRestClient();
+    }
+
+    private WireMockServer startInstance(HttpStatus status, int delayMillis) {
+        WireMockServer server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        servers.add(server);
+        server.stubFor(get(urlPathEqualTo("/movieservice/v1/movieName"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(status.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("avengers.json")));
+        server.stubFor(get(urlEqualTo("/movieservice/v1/movie/1"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(status.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")
+                        .withFixedDelay(delayMillis)));
+        return server;
+    }
+
+    private List<String> baseUrls() {
+        List<String> baseUrls = new ArrayList<>();
+        for (WireMockServer server : servers) {
+            baseUrls.add(server.baseUrl());
+        }
+        return baseUrls;
+    }
+
+    private static int requestCount(WireMockServer server) {
+        return server.countRequestsMatching(getRequestedFor(anyUrl()).build()).getCount();
+    }
+}
@@ -0,0 +1,68 @@
+package com.rajesh.wiremock.loadtest;
+
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Date;
+
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrecompiledTemplateTest {
+
+    ResponseTemplateTransformer handlebars = new ResponseTemplateTransformer(false);
+
+    @Test
+    void testRendersFixturesLikeHandlebars() throws IOException {
+        //Given
+        Request movie = request(RequestMethod.GET, "/movieservice/v1/movie/1", "");
+        Request updateMovie = request(RequestMethod.PUT, "/movieservice/v1/movie/3",
+                "{\"cast\": \"Tim & \\\"Don\\\" Rickles\"}");
+        Request movieByName = request(RequestMethod.GET, "/movieservice/v1/movieName?movie_name=Avengers", "");
+
+        //Then
+        assertRendersLikeHandlebars("movie-template.json", movie);
+        assertRendersLikeHandlebars("update-movie-template.json", updateMovie);
+        assertRendersLikeHandlebars("movie-by-name.json", movieByName);
+    }
+
+    @Test
+    void testUnsupportedHelperFailsToCompile() throws IOException {
+        //Given
+        String template = fixture("add-movie-template.json");
+
+        //Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> PrecompiledTemplate.compile(template));
+        assertTrue(exception.getMessage().contains("date parseDate"), exception.getMessage());
+    }
+
+    private void assertRendersLikeHandlebars(String fixture, Request request) throws IOException {
+        String template = fixture(fixture);
+
+        String expected = handlebars.transform(request, responseDefinition().withBody(template).build(),
+                null, Parameters.empty()).getBody();
+        String actual = new String(PrecompiledTemplate.compile(template).render(request), StandardCharsets.UTF_8);
+
+        assertEquals(expected, actual, fixture);
+    }
+
+    private static String fixture(String name) throws IOException {
+        return new String(Files.readAllBytes(Paths.get("src/test/resources/__files", name)), StandardCharsets.UTF_8);
+    }
+
+    private static Request request(RequestMethod method, String url, String body){
+        return new LoggedRequest(url, "http://localhost" + url, method, "127.0.0.1", new HttpHeaders(),
+                Collections.emptyMap(), false, new Date(), body.getBytes(StandardCharsets.UTF_8), null);
+    }
+}
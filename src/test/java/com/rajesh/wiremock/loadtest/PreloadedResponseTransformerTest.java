@@ -0,0 +1,44 @@
+package com.rajesh.wiremock.loadtest;
+
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import org.junit.jupiter.api.Test;
+
+import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PreloadedResponseTransformerTest {
+
+    PreloadedResponseTransformer transformer = new PreloadedResponseTransformer();
+    SingleRootFileSource files = new SingleRootFileSource("src/test/resources/__files");
+
+    @Test
+    void testBodyFileIsServedFromMemory() {
+        //Given
+        ResponseDefinition definition = responseDefinition().withBodyFile("movie.json").build();
+
+        //When
+        ResponseDefinition transformed = transformer.transform(null, definition, files, Parameters.empty());
+
+        //Then
+        assertFalse(transformed.specifiesBodyFile());
+        assertArrayEquals(files.getBinaryFileNamed("movie.json").readContents(), transformed.getByteBody());
+    }
+
+    @Test
+    void testHandlebarsStubIsLeftUntouched() {
+        //Given
+        ResponseDefinition definition = responseDefinition()
+                .withBodyFile("movie-template.json")
+                .withTransformers(ResponseTemplateTransformer.NAME)
+                .build();
+
+        //When
+        ResponseDefinition transformed = transformer.transform(null, definition, files, Parameters.empty());
+
+        //Then
+        assertSame(definition, transformed);
+    }
+}
@@ -0,0 +1,67 @@
+package com.rajesh.wiremock.metrics;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.ReactiveMoviesRestClient;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedWireMockExtension.class)
+public class MoviesClientMetricsTest {
+
+    SimpleMeterRegistry registry;
+    MoviesRestClient moviesRestClient;
+
+    StubNamespace wireMock;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.create(wireMock.baseUrl());
+        moviesRestClient = new MoviesRestClient(
+                new ReactiveMoviesRestClient(webClient, new MoviesClientMetrics(registry)));
+    }
+
+    @Test
+    void testSuccessAndErrorAreRecordedPerEndpoint() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/1"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")));
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/100"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)));
+
+        //When
+        moviesRestClient.retrieveMovieById(1);
+        moviesRestClient.retrieveMovieById(1);
+        assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(100));
+
+        //Then
+        String endpoint = MovieEndpoint.GET_MOVIE_BY_ID.name();
+        assertEquals(2, registry.get(MoviesClientMetrics.REQUESTS)
+                .tags("endpoint", endpoint, "outcome", "SUCCESS").timer().count());
+        assertEquals(1, registry.get(MoviesClientMetrics.REQUESTS)
+                .tags("endpoint", endpoint, "outcome", "ERROR").timer().count());
+        assertEquals(1.0, registry.get(MoviesClientMetrics.ERRORS)
+                .tags("endpoint", endpoint, "status", "404").counter().count());
+        assertEquals(0.0, registry.get(MoviesClientMetrics.ACTIVE_REQUESTS)
+                .tags("endpoint", endpoint).gauge().value());
+    }
+}
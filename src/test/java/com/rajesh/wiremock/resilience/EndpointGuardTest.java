@@ -0,0 +1,139 @@
+package com.rajesh.wiremock.resilience;
+
+import com.rajesh.wiremock.config.CircuitBreakerConfig;
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import com.rajesh.wiremock.exception.BulkheadFullException;
+import com.rajesh.wiremock.exception.CircuitBreakerOpenException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EndpointGuardTest {
+
+    private static final MovieEndpoint ENDPOINT = MovieEndpoint.GET_MOVIE_BY_ID;
+
+    private final CircuitBreakerConfig config = CircuitBreakerConfig.builder()
+            .slidingWindowSize(10)
+            .minimumCalls(4)
+            .halfOpenCalls(2)
+            .openDuration(Duration.ofMillis(100))
+            .maxConcurrentCalls(2)
+            .build();
+
+    private Mono<String> serverError() {
+        return Mono.error(WebClientResponseException.create(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable", null, null, null));
+    }
+
+    private Mono<String> notFound() {
+        return Mono.error(WebClientResponseException.create(HttpStatus.NOT_FOUND.value(),
+                "Not Found", null, null, null));
+    }
+
+    @Test
+    void testOpensOnServerErrorsAndRecoversThroughHalfOpen() throws InterruptedException {
+        EndpointGuard guard = new EndpointGuard(config);
+        List<CircuitBreakerEvent> events = new ArrayList<>();
+        guard.onStateTransition(events::add);
+
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(guard.apply(ENDPOINT, serverError()))
+                    .expectError(WebClientResponseException.class)
+                    .verify();
+        }
+        assertEquals(MovieCircuitBreaker.State.OPEN, guard.getState(ENDPOINT));
+        StepVerifier.create(guard.apply(ENDPOINT, Mono.just("movie")))
+                .expectError(CircuitBreakerOpenException.class)
+                .verify();
+
+        Thread.sleep(150);
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(guard.apply(ENDPOINT, Mono.just("movie")))
+                    .expectNext("movie")
+                    .verifyComplete();
+        }
+
+        assertEquals(MovieCircuitBreaker.State.CLOSED, guard.getState(ENDPOINT));
+        assertEquals(3, events.size());
+        assertEquals(MovieCircuitBreaker.State.HALF_OPEN, events.get(1).getTo());
+    }
+
+    @Test
+    void testClientErrorsDoNotOpenTheBreaker() {
+        EndpointGuard guard = new EndpointGuard(config);
+
+        for (int i = 0; i < 10; i++) {
+            StepVerifier.create(guard.apply(ENDPOINT, notFound()))
+                    .expectError(WebClientResponseException.class)
+                    .verify();
+        }
+
+        assertEquals(MovieCircuitBreaker.State.CLOSED, guard.getState(ENDPOINT));
+    }
+
+    @Test
+    void testBulkheadRejectsExcessConcurrentCalls() {
+        EndpointGuard guard = new EndpointGuard(config);
+        Mono<String> slow = Mono.delay(Duration.ofSeconds(5)).map(tick -> "movie");
+
+        guard.apply(ENDPOINT, slow).subscribe();
+        guard.apply(ENDPOINT, slow).subscribe();
+
+        StepVerifier.create(guard.apply(ENDPOINT, Mono.just("movie")))
+                .expectError(BulkheadFullException.class)
+                .verify();
+        StepVerifier.create(guard.apply(MovieEndpoint.GET_MOVIES_BY_YEAR, Mono.just("movie")))
+                .expectNext("movie")
+                .verifyComplete();
+    }
+
+    @Test
+    void testSequentialBlockingCallsSeeTheirPermitsReleased() {
+        EndpointGuard guard = new EndpointGuard(CircuitBreakerConfig.builder()
+                .slidingWindowSize(10)
+                .minimumCalls(4)
+                .maxConcurrentCalls(1)
+                .build());
+        Mono<String> movie = Mono.fromCallable(() -> "movie").subscribeOn(Schedulers.parallel());
+        Flux<String> movies = Flux.just("movie", "movie").publishOn(Schedulers.parallel());
+
+        for (int i = 0; i < 500; i++) {
+            assertEquals("movie", guard.apply(ENDPOINT, movie).block());
+            assertEquals(2, guard.apply(ENDPOINT, movies).count().block());
+        }
+        for (int i = 0; i < 4; i++) {
+            assertThrows(WebClientResponseException.class, () -> guard.apply(MovieEndpoint.GET_MOVIES_BY_YEAR,
+                    serverError().subscribeOn(Schedulers.parallel())).block());
+        }
+
+        assertEquals(MovieCircuitBreaker.State.OPEN, guard.getState(MovieEndpoint.GET_MOVIES_BY_YEAR));
+    }
+
+    @Test
+    void testSlowCallsOpenTheBreaker() {
+        AtomicLong now = new AtomicLong();
+        MovieCircuitBreaker breaker = new MovieCircuitBreaker(ENDPOINT, CircuitBreakerConfig.builder()
+                .minimumCalls(5)
+                .slowCallRateThreshold(0.6)
+                .slowCallDuration(Duration.ofMillis(10))
+                .build(), null, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onResult(i < 3 ? Duration.ofMillis(50).toNanos() : 0, false);
+        }
+
+        assertEquals(MovieCircuitBreaker.State.OPEN, breaker.getState());
+    }
+}
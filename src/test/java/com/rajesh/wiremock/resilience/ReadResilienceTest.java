@@ -0,0 +1,174 @@
+package com.rajesh.wiremock.resilience;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.rajesh.wiremock.config.HedgingConfig;
+import com.rajesh.wiremock.config.RetryConfig;
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.ReactiveMoviesRestClient;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.rajesh.wiremock.constants.MoviesAppConstants.ADD_MOVIE_V1;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedWireMockExtension.class)
+public class ReadResilienceTest {
+
+    StubNamespace wireMock;
+
+    private MoviesRestClient newClient(HedgingConfig hedging, RetryConfig retry) {
+        WebClient webClient = WebClient.create(wireMock.baseUrl());
+        return new MoviesRestClient(ReactiveMoviesRestClient.builder()
+                .webClient(webClient)
+                .readResilience(new ReadResilience(hedging, retry))
+                .build());
+    }
+
+    private RetryConfig fastRetry() {
+        return RetryConfig.builder()
+                .firstBackoff(Duration.ofMillis(10))
+                .build();
+    }
+
+    @Test
+    void testRetriesServerErrors() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/1"))
+                .inScenario("flaky").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(WireMock.aResponse().withStatus(HttpStatus.SERVICE_UNAVAILABLE.value()))
+                .willSetStateTo("recovered"));
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/1"))
+                .inScenario("flaky").whenScenarioStateIs("recovered")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")));
+
+        //When
+        Movie movie = newClient(null, fastRetry()).retrieveMovieById(1);
+
+        //Then
+        assertEquals("Batman Begins", movie.getName());
+        wireMock.verify(2, getRequestedFor(urlEqualTo("/movieservice/v1/movie/1")));
+    }
+
+    @Test
+    void testDoesNotRetryClientErrors() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/100"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)));
+
+        //When & Then
+        assertThrows(MovieErrorResponse.class, () -> newClient(null, fastRetry()).retrieveMovieById(100));
+        wireMock.verify(1, getRequestedFor(urlEqualTo("/movieservice/v1/movie/100")));
+    }
+
+    @Test
+    void testDoesNotRetryWrites() {
+        //Given
+        wireMock.stubFor(post(urlEqualTo(ADD_MOVIE_V1))
+                .willReturn(WireMock.aResponse().withStatus(HttpStatus.SERVICE_UNAVAILABLE.value())));
+        Movie newMovie = new Movie(null, "Toy Story 4", "Tom Hanks", 2019, LocalDate.of(2019, 6, 20));
+
+        //When & Then
+        assertThrows(MovieErrorResponse.class, () -> newClient(HedgingConfig.defaults(), fastRetry()).addMovie(newMovie));
+        wireMock.verify(1, postRequestedFor(urlEqualTo(ADD_MOVIE_V1)));
+    }
+
+    @Test
+    void testHedgesSlowReads() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/1"))
+                .inScenario("slow").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withFixedDelay(3000)
+                        .withBodyFile("movie.json"))
+                .willSetStateTo("fast"));
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/1"))
+                .inScenario("slow").whenScenarioStateIs("fast")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")));
+        HedgingConfig hedging = HedgingConfig.builder()
+                .initialDelay(Duration.ofMillis(100))
+                .build();
+
+        //When
+        long start = System.nanoTime();
+        Movie movie = newClient(hedging, null).retrieveMovieById(1);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        //Then
+        assertEquals("Batman Begins", movie.getName());
+        assertTrue(elapsedMillis < 2000, "hedged call took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testLatencyTrackerPercentile() {
+        LatencyTracker tracker = new LatencyTracker(80, 0.9, 10, 50, 1, 1000);
+        assertEquals(50, tracker.percentileNanos());
+        for (int i = 1; i <= 80; i++) {
+            tracker.record(i);
+        }
+        assertEquals(72, tracker.percentileNanos());
+    }
+
+    @Test
+    void testRequestBudget() {
+        RequestBudget budget = new RequestBudget(0.5, 1);
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        budget.onRequest();
+        budget.onRequest();
+        assertTrue(budget.tryAcquire());
+    }
+
+    @Test
+    void testFailedAndCancelledAttemptsCountTowardsHedgeDelay() {
+        //Given
+        ReadResilience readResilience = new ReadResilience(HedgingConfig.builder()
+                .percentile(0.5)
+                .initialDelay(Duration.ofSeconds(5))
+                .minDelay(Duration.ofMillis(1))
+                .maxDelay(Duration.ofSeconds(10))
+                .minSamples(4)
+                .windowSize(8)
+                .build(), null);
+        Mono<Movie> failsSlowly = Mono.delay(Duration.ofMillis(100))
+                .then(Mono.error(new IllegalStateException("timed out")));
+        Mono<Movie> neverAnswers = Mono.never();
+
+        //When
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class,
+                    () -> readResilience.apply(MovieEndpoint.GET_MOVIE_BY_ID, failsSlowly).block());
+            assertNull(readResilience.apply(MovieEndpoint.GET_MOVIE_BY_ID, neverAnswers)
+                    .timeout(Duration.ofMillis(100), Mono.empty())
+                    .block());
+        }
+
+        //Then
+        long hedgeDelayMillis = readResilience.hedgeDelayNanos(MovieEndpoint.GET_MOVIE_BY_ID) / 1_000_000;
+        assertTrue(hedgeDelayMillis >= 100 && hedgeDelayMillis < 1000, "hedge delay " + hedgeDelayMillis + " ms");
+    }
+}
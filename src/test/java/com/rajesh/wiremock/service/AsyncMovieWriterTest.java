@@ -0,0 +1,271 @@
+package com.rajesh.wiremock.service;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.rajesh.wiremock.config.AsyncWriterConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.rajesh.wiremock.constants.MoviesAppConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedWireMockExtension.class)
+public class AsyncMovieWriterTest {
+
+    ReactiveMoviesRestClient reactiveClient;
+    AsyncMovieWriter asyncMovieWriter;
+
+    StubNamespace wireMock;
+
+    @BeforeEach
+    void setUp() {
+        String baseUrl = wireMock.baseUrl();
+        reactiveClient = new ReactiveMoviesRestClient(WebClient.create(baseUrl));
+        wireMock.stubFor(post(urlPathEqualTo(ADD_MOVIE_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("add-movie-template.json")));
+        wireMock.stubFor(put(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("update-movie-template.json")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (asyncMovieWriter != null) {
+            asyncMovieWriter.close();
+        }
+    }
+
+    @Test
+    void addMovie_FlushedWhenBatchIsFull() throws Exception {
+        //Given
+        asyncMovieWriter = new AsyncMovieWriter(reactiveClient, AsyncWriterConfig.builder()
+                .maxBatchSize(5)
+                .maxBatchDelay(Duration.ofMinutes(1))
+                .build());
+        List<CompletableFuture<Movie>> results = new ArrayList<>();
+
+        //When
+        for (int i = 0; i < 5; i++) {
+            results.add(asyncMovieWriter.addMovie(newMovie("Toy Story " + i)));
+        }
+
+        //Then
+        for (CompletableFuture<Movie> result : results) {
+            assertNotNull(result.get(5, TimeUnit.SECONDS).getMovie_id());
+        }
+        wireMock.verify(5, postRequestedFor(urlPathEqualTo(ADD_MOVIE_V1)));
+        assertEquals(1, asyncMovieWriter.batchCount());
+    }
+
+    @Test
+    void addMovie_FlushedAfterBatchDelay() throws Exception {
+        //Given
+        asyncMovieWriter = new AsyncMovieWriter(reactiveClient, AsyncWriterConfig.builder()
+                .maxBatchSize(100)
+                .maxBatchDelay(Duration.ofMillis(50))
+                .build());
+
+        //When
+        Movie movie = asyncMovieWriter.addMovie(newMovie("Toy Story 4")).get(5, TimeUnit.SECONDS);
+
+        //Then
+        assertEquals("Toy Story 4", movie.getName());
+    }
+
+    @Test
+    void updateMovie_QueuedUpdatesToSameMovieAreCoalesced() throws Exception {
+        //Given
+        asyncMovieWriter = new AsyncMovieWriter(reactiveClient, AsyncWriterConfig.builder()
+                .maxBatchDelay(Duration.ofMinutes(1))
+                .build());
+
+        //When
+        CompletableFuture<Movie> first = asyncMovieWriter.updateMovie(3, new Movie(null, null, "Keanu Reeves", 2019, null));
+        CompletableFuture<Movie> second = asyncMovieWriter.updateMovie(3, new Movie(null, "Toy Story 5", null, 2020, null));
+        asyncMovieWriter.flush().get(5, TimeUnit.SECONDS);
+
+        //Then
+        assertTrue(first.get().getCast().contains("Keanu Reeves"));
+        assertSame(first.get(), second.get());
+        assertEquals(1, asyncMovieWriter.coalescedCount());
+        wireMock.verify(1, putRequestedFor(urlPathEqualTo("/movieservice/v1/movie/3"))
+                .withRequestBody(matchingJsonPath("$.cast", equalTo("Keanu Reeves")))
+                .withRequestBody(matchingJsonPath("$.name", equalTo("Toy Story 5")))
+                .withRequestBody(matchingJsonPath("$.year", equalTo("2020"))));
+    }
+
+    @Test
+    void deleteMovie_NotCoalescedWithQueuedUpdate() throws Exception {
+        //Given
+        wireMock.stubFor(delete(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withBody("Movie Deleted Successfully")));
+        asyncMovieWriter = new AsyncMovieWriter(reactiveClient, AsyncWriterConfig.builder()
+                .maxBatchDelay(Duration.ofMinutes(1))
+                .build());
+
+        //When
+        CompletableFuture<Movie> update = asyncMovieWriter.updateMovie(3, castMovie("Tom Hanks"));
+        CompletableFuture<String> delete = asyncMovieWriter.deleteMovie(3);
+        CompletableFuture<Movie> updateAfterDelete = asyncMovieWriter.updateMovie(3, castMovie("Keanu Reeves"));
+        asyncMovieWriter.flush().get(5, TimeUnit.SECONDS);
+
+        //Then
+        assertNotNull(update.get());
+        assertEquals("Movie Deleted Successfully", delete.get());
+        assertNotNull(updateAfterDelete.get());
+        assertEquals(0, asyncMovieWriter.coalescedCount());
+        wireMock.verify(2, putRequestedFor(urlPathEqualTo("/movieservice/v1/movie/3")));
+    }
+
+    @Test
+    void updateMovie_FailureIsReportedOnlyToItsOwnFuture() throws Exception {
+        //Given
+        wireMock.stubFor(put(urlPathEqualTo("/movieservice/v1/movie/100"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)));
+        asyncMovieWriter = new AsyncMovieWriter(reactiveClient, AsyncWriterConfig.builder()
+                .maxBatchDelay(Duration.ofMinutes(1))
+                .build());
+
+        //When
+        CompletableFuture<Movie> missing = asyncMovieWriter.updateMovie(100, castMovie("Tom Hanks"));
+        CompletableFuture<Movie> found = asyncMovieWriter.updateMovie(3, castMovie("Tom Hanks"));
+        asyncMovieWriter.flush().get(5, TimeUnit.SECONDS);
+
+        //Then
+        ExecutionException ex = assertThrows(ExecutionException.class, missing::get);
+        assertTrue(ex.getCause() instanceof MovieErrorResponse);
+        assertNotNull(found.get());
+    }
+
+    @Test
+    void addMovie_FailsWhenQueueStaysFull() throws Exception {
+        //Given
+        wireMock.stubFor(post(urlPathEqualTo(ADD_MOVIE_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("add-movie-template.json")
+                        .withFixedDelay(1000)));
+        asyncMovieWriter = new AsyncMovieWriter(reactiveClient, AsyncWriterConfig.builder()
+                .queueCapacity(1)
+                .maxBatchDelay(Duration.ZERO)
+                .enqueueTimeout(Duration.ofMillis(100))
+                .build());
+
+        //When
+        CompletableFuture<Movie> accepted = asyncMovieWriter.addMovie(newMovie("Toy Story 4"));
+        CompletableFuture<Movie> rejected = asyncMovieWriter.addMovie(newMovie("Toy Story 5"));
+
+        //Then
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertEquals("Write queue is full", ex.getCause().getMessage());
+        assertNotNull(accepted.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void close_SendsQueuedWrites() throws Exception {
+        //Given
+        asyncMovieWriter = new AsyncMovieWriter(reactiveClient, AsyncWriterConfig.builder()
+                .maxBatchDelay(Duration.ofMinutes(1))
+                .build());
+        CompletableFuture<Movie> result = asyncMovieWriter.addMovie(newMovie("Toy Story 4"));
+
+        //When
+        asyncMovieWriter.close();
+
+        //Then
+        assertTrue(result.isDone());
+        assertNotNull(result.get());
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> asyncMovieWriter.addMovie(newMovie("Toy Story 5")).get(5, TimeUnit.SECONDS));
+        assertEquals("Writer is closed", ex.getCause().getMessage());
+    }
+
+    @Test
+    void addMovie_LeftoverOfFullBatchKeepsItsBatchDelay() throws Exception {
+        //Given
+        wireMock.stubFor(post(urlPathEqualTo(ADD_MOVIE_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("add-movie-template.json")
+                        .withFixedDelay(1000)));
+        asyncMovieWriter = new AsyncMovieWriter(reactiveClient, AsyncWriterConfig.builder()
+                .maxBatchSize(2)
+                .maxBatchDelay(Duration.ofSeconds(2))
+                .build());
+
+        //When
+        long start = System.nanoTime();
+        asyncMovieWriter.addMovie(newMovie("Toy Story 1"));
+        asyncMovieWriter.addMovie(newMovie("Toy Story 2"));
+        asyncMovieWriter.addMovie(newMovie("Toy Story 3"));
+        asyncMovieWriter.addMovie(newMovie("Toy Story 4"));
+        CompletableFuture<Movie> leftover = asyncMovieWriter.addMovie(newMovie("Toy Story 5"));
+        leftover.get(10, TimeUnit.SECONDS);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        //Then
+        // due 2 s after it was queued (sent ~3 s in, once the second batch is back), not 2 s after the second batch was taken (~4 s)
+        assertTrue(elapsedMillis < 3500, "leftover write took " + elapsedMillis + " ms");
+        assertEquals(3, asyncMovieWriter.batchCount());
+    }
+
+    @Test
+    void flusherInterrupted_FailsQueuedWrites() throws Exception {
+        //Given
+        asyncMovieWriter = new AsyncMovieWriter(reactiveClient, AsyncWriterConfig.builder()
+                .maxBatchDelay(Duration.ofMinutes(1))
+                .build());
+        CompletableFuture<Movie> queued = asyncMovieWriter.addMovie(newMovie("Toy Story 4"));
+        Thread flusher = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("movies-async-writer"))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+
+        //When
+        flusher.interrupt();
+        flusher.join(5000);
+
+        //Then
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertTrue(ex.getCause() instanceof MovieErrorResponse);
+        assertTrue(asyncMovieWriter.addMovie(newMovie("Toy Story 5")).isCompletedExceptionally());
+        wireMock.verify(0, postRequestedFor(urlPathEqualTo(ADD_MOVIE_V1)));
+    }
+
+    private static Movie newMovie(String name) {
+        return new Movie(null, name, "Tom Hanks, Tim Allen", 2019, LocalDate.of(2019, 6, 20));
+    }
+
+    private static Movie castMovie(String cast) {
+        return new Movie(null, "Toy Story 4", cast, 2019, LocalDate.of(2019, 6, 20));
+    }
+}
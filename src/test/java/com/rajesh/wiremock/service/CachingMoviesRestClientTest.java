@@ -0,0 +1,106 @@
+package com.rajesh.wiremock.service;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.rajesh.wiremock.config.MovieCacheConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.rajesh.wiremock.constants.MoviesAppConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedWireMockExtension.class)
+public class CachingMoviesRestClientTest {
+
+    CachingMoviesRestClient cachingMoviesRestClient;
+
+    StubNamespace wireMock;
+
+    @BeforeEach
+    void setUp() {
+        String baseUrl = wireMock.baseUrl();
+        cachingMoviesRestClient = new CachingMoviesRestClient(
+                new ReactiveMoviesRestClient(WebClient.create(baseUrl)), MovieCacheConfig.defaults());
+    }
+
+    @Test
+    void testRetrieveMovieById_ServedFromCache() {
+        //Given
+        wireMock.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")));
+
+        //When
+        Movie first = cachingMoviesRestClient.retrieveMovieById(1);
+        Movie second = cachingMoviesRestClient.retrieveMovieById(1);
+
+        //Then
+        assertSame(first, second);
+        wireMock.verify(1, getRequestedFor(urlEqualTo("/movieservice/v1/movie/1")));
+        assertEquals(1, cachingMoviesRestClient.cacheStats().get("retrieveMovieById").hitCount());
+    }
+
+    @Test
+    void testRetrieveMoviesByYear_ConcurrentMissesCoalesced() throws Exception {
+        //Given
+        wireMock.stubFor(get(urlEqualTo(GET_MOVIES_BY_YEAR + "?year=2012"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withFixedDelay(300)
+                        .withBodyFile("movie-by-year.json")));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //When
+        try {
+            CompletableFuture<?>[] calls = new CompletableFuture<?>[4];
+            for (int i = 0; i < calls.length; i++) {
+                calls[i] = CompletableFuture.supplyAsync(
+                        () -> cachingMoviesRestClient.retrieveMoviesByYear(2012), executor);
+            }
+            CompletableFuture.allOf(calls).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        //Then
+        wireMock.verify(1, getRequestedFor(urlEqualTo(GET_MOVIES_BY_YEAR + "?year=2012")));
+    }
+
+    @Test
+    void testUpdateMovie_InvalidatesCachedEntries() {
+        //Given
+        wireMock.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")));
+        wireMock.stubFor(put(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("update-movie-template.json")));
+        cachingMoviesRestClient.retrieveMovieById(1);
+
+        //When
+        cachingMoviesRestClient.updateMovie(1, new Movie(null, null, "Rajesh", null, null));
+        cachingMoviesRestClient.retrieveMovieById(1);
+
+        //Then
+        wireMock.verify(2, getRequestedFor(urlEqualTo("/movieservice/v1/movie/1")));
+    }
+}
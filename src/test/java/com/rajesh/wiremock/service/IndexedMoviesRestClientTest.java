@@ -0,0 +1,96 @@
+package com.rajesh.wiremock.service;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.index.MovieIndex;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.rajesh.wiremock.constants.MoviesAppConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedWireMockExtension.class)
+public class IndexedMoviesRestClientTest {
+
+    MovieIndex movieIndex;
+    IndexedMoviesRestClient indexedMoviesRestClient;
+
+    StubNamespace wireMock;
+
+    @BeforeEach
+    void setUp() {
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("all-movies.json")));
+        String baseUrl = wireMock.baseUrl();
+        ReactiveMoviesRestClient reactiveClient = new ReactiveMoviesRestClient(WebClient.create(baseUrl));
+        movieIndex = new MovieIndex(reactiveClient).start(Duration.ofMinutes(1));
+        indexedMoviesRestClient = new IndexedMoviesRestClient(reactiveClient, movieIndex);
+    }
+
+    @AfterEach
+    void tearDown() {
+        movieIndex.close();
+    }
+
+    @Test
+    void testRetrieveMoviesByYear_ServedFromIndex() {
+        //When
+        List<Movie> movies = indexedMoviesRestClient.retrieveMoviesByYear(2012);
+
+        //Then
+        assertEquals(2, movies.size());
+        wireMock.verify(0, getRequestedFor(urlPathEqualTo(GET_MOVIES_BY_YEAR)));
+    }
+
+    @Test
+    void testRetrieveMoviesByName_NoLocalMatchFallsBackToService() {
+        //Given
+        wireMock.stubFor(get(urlPathEqualTo(GET_MOVIES_BY_NAME))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)));
+
+        //When
+        List<Movie> avengers = indexedMoviesRestClient.retrieveMoviesByName("Avengers");
+
+        //Then
+        assertEquals(4, avengers.size());
+        assertThrows(MovieErrorResponse.class, () -> indexedMoviesRestClient.retrieveMoviesByName("ABC"));
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo(GET_MOVIES_BY_NAME)));
+    }
+
+    @Test
+    void testAddMovie_AppliedToIndex() {
+        //Given
+        wireMock.stubFor(post(urlEqualTo(ADD_MOVIE_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("add-movie.json")));
+        Movie movie = new Movie(null, "Toy Story 4", "Tom Hanks, Tim Allen", 2019, LocalDate.of(2019, 6, 20));
+
+        //When
+        Movie added = indexedMoviesRestClient.addMovie(movie);
+
+        //Then
+        assertEquals(added, movieIndex.movieById(added.getMovie_id()));
+        assertTrue(indexedMoviesRestClient.retrieveMoviesByYear(added.getYear()).contains(added));
+    }
+}
@@ -0,0 +1,133 @@
+package com.rajesh.wiremock.service;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedWireMockExtension.class)
+public class MoviesRestClientFactoryTest {
+
+    MoviesRestClientFactory factory;
+
+    StubNamespace wireMock;
+
+    @AfterEach
+    void tearDown() {
+        factory.dispose();
+    }
+
+    @Test
+    void testFastMovieCodec() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/allMovies"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("all-movies.json")));
+        factory = new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(wireMock.baseUrl())
+                .fastMovieCodec(true)
+                .build());
+
+        //When
+        List<Movie> movies = factory.moviesRestClient().retrieveAllMovies();
+
+        //Then
+        assertEquals("Batman Begins", movies.get(0).getName());
+        assertEquals(LocalDate.of(2005, 6, 15), movies.get(0).getRelease_date());
+    }
+
+    private MoviesRestClient newClient(Duration responseTimeout, Duration maxIdleTime) {
+        factory = new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(wireMock.baseUrl())
+                .maxConnections(4)
+                .responseTimeout(responseTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build());
+        return factory.moviesRestClient();
+    }
+
+    @Test
+    void testConnectionsAreReusedAndReportedIdle() throws InterruptedException {
+        //Given
+        stubMovie(0);
+        MoviesRestClient moviesRestClient = newClient(Duration.ofSeconds(2), Duration.ofSeconds(30));
+
+        //When
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Batman Begins", moviesRestClient.retrieveMovieById(1).getName());
+        }
+
+        //Then
+        // the connection is released on the event loop just after the caller is woken up
+        Thread.sleep(100);
+        assertEquals(0, factory.poolStats().getActive());
+        assertEquals(0, factory.poolStats().getPending());
+        assertEquals(1, factory.poolStats().getIdle());
+    }
+
+    @Test
+    void testResponseTimeout() {
+        //Given
+        stubMovie(1500);
+        MoviesRestClient moviesRestClient = newClient(Duration.ofMillis(300), Duration.ofSeconds(30));
+
+        //When & Then
+        assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(1));
+    }
+
+    @Test
+    void testResponseTimeoutDoesNotFireOnIdleConnections() throws InterruptedException {
+        //Given
+        stubMovie(0);
+        MoviesRestClient moviesRestClient = newClient(Duration.ofMillis(300), Duration.ofSeconds(30));
+        moviesRestClient.retrieveMovieById(1);
+
+        //When
+        Thread.sleep(600);
+
+        //Then
+        assertEquals(1, factory.poolStats().getOpen());
+        assertEquals("Batman Begins", moviesRestClient.retrieveMovieById(1).getName());
+    }
+
+    @Test
+    void testIdleConnectionsAreEvicted() throws InterruptedException {
+        //Given
+        stubMovie(0);
+        MoviesRestClient moviesRestClient = newClient(Duration.ofSeconds(2), Duration.ofMillis(200));
+        moviesRestClient.retrieveMovieById(1);
+
+        //When
+        Thread.sleep(600);
+
+        //Then
+        assertEquals(0, factory.poolStats().getOpen());
+        assertEquals("Batman Begins", moviesRestClient.retrieveMovieById(1).getName());
+    }
+
+    private void stubMovie(int delayMillis) {
+        wireMock.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withFixedDelay(delayMillis)
+                        .withBodyFile("movie.json")));
+    }
+}
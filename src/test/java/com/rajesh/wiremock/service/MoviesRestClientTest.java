@@ -1,53 +1,45 @@
 package com.rajesh.wiremock.service;
 
-import com.github.jenspiegsa.wiremockextension.ConfigureWireMock;
-import com.github.jenspiegsa.wiremockextension.InjectServer;
-import com.github.jenspiegsa.wiremockextension.WireMockExtension;
-import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
-import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
-import com.github.tomakehurst.wiremock.core.Options;
-import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
 import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.dto.MovieBatchResult;
+import com.rajesh.wiremock.dto.MovieTable;
 import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
-import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static com.rajesh.wiremock.constants.MoviesAppConstants.*;
 import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(WireMockExtension.class)
+@ExtendWith(SharedWireMockExtension.class)
+@Execution(ExecutionMode.CONCURRENT)
 public class MoviesRestClientTest {
 
     MoviesRestClient moviesRestClient;
     WebClient webClient;
 
-    @InjectServer
-    WireMockServer wireMockServer;
-
-    @ConfigureWireMock
-    Options options = wireMockConfig()
-            .port(8088)
-            .notifier(new ConsoleNotifier(true))
-            .extensions(new ResponseTemplateTransformer(true));
+    StubNamespace wireMock;
 
     @BeforeEach
     void setUp() {
-        int port = wireMockServer.port();
-        String baseUrl = String.format("http://localhost:%s",port);
-        webClient = WebClient.create(baseUrl);
+        webClient = WebClient.create(wireMock.baseUrl());
         moviesRestClient = new MoviesRestClient(webClient);
     }
 
@@ -55,7 +47,7 @@ public class MoviesRestClientTest {
     void testRetrieveAllMovies() {
 
         //Given
-        stubFor(get(anyUrl())
+        wireMock.stubFor(get(anyUrl())
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.OK.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -73,7 +65,7 @@ public class MoviesRestClientTest {
     void testRetrieveAllMovies_MatchStubUrl() {
 
         //Given
-        stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.OK.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -87,10 +79,27 @@ public class MoviesRestClientTest {
         assertTrue(movieList.size() > 0);
     }
 
+    @Test
+    void testRetrieveAllMoviesAsTable() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("all-movies.json")));
+
+        //When
+        MovieTable movieTable = moviesRestClient.retrieveAllMoviesAsTable();
+
+        //Then
+        assertEquals(moviesRestClient.retrieveAllMovies(), movieTable.asList());
+        assertEquals("Batman Begins", movieTable.getName(0));
+    }
+
     @Test
     void testRetrieveMovieById() {
         //Given
-        stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]"))
+        wireMock.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]"))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.OK.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -107,7 +116,7 @@ public class MoviesRestClientTest {
     @Test
     void testRetrieveMovieById_ResponseTemplate() {
         //Given
-        stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]"))
+        wireMock.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]"))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.OK.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -124,7 +133,7 @@ public class MoviesRestClientTest {
     @Test
     void testRetrieveMovieById_NotFound() {
         //Given
-        stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+        wireMock.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.NOT_FOUND.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -136,11 +145,35 @@ public class MoviesRestClientTest {
                 () -> moviesRestClient.retrieveMovieById(movieId));
     }
 
+    @Test
+    void testRetrieveMoviesByIds_PartialFailure() {
+        //Given
+        wireMock.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie-template.json")));
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/100"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("404-movie-id.json")));
+        List<Integer> movieIds = Arrays.asList(3, 100, 1, 2);
+
+        //When
+        MovieBatchResult result = moviesRestClient.retrieveMoviesByIds(movieIds, 2);
+
+        //Then
+        assertEquals(Arrays.asList(3, 1, 2), new ArrayList<>(result.getMovies().keySet()));
+        assertEquals(3L, result.getMovies().get(3).getMovie_id());
+        assertTrue(result.getFailures().containsKey(100));
+    }
+
     @Test
     void testRetrieveMovieByName() {
         //Given
         String movieName = "Avengers";
-        stubFor(get(urlPathEqualTo(GET_MOVIES_BY_NAME))
+        wireMock.stubFor(get(urlPathEqualTo(GET_MOVIES_BY_NAME))
                 .withQueryParam("movie_name", equalTo(movieName))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.OK.value())
@@ -158,7 +191,7 @@ public class MoviesRestClientTest {
     void testRetrieveMovieByName_ResponseTemplate() {
         //Given
         String movieName = "Avengers";
-        stubFor(get(urlEqualTo(GET_MOVIES_BY_NAME+"?movie_name="+movieName))
+        wireMock.stubFor(get(urlEqualTo(GET_MOVIES_BY_NAME+"?movie_name="+movieName))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.OK.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -177,7 +210,7 @@ public class MoviesRestClientTest {
         //Given
         String movieName = "ABC";
 
-        stubFor(get(urlEqualTo(GET_MOVIES_BY_NAME+"?movie_name="+movieName))
+        wireMock.stubFor(get(urlEqualTo(GET_MOVIES_BY_NAME+"?movie_name="+movieName))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.NOT_FOUND.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -195,7 +228,7 @@ public class MoviesRestClientTest {
         //Given
         Integer movieYear = 2012;
 
-        stubFor(get(urlEqualTo(GET_MOVIES_BY_YEAR+"?year="+movieYear))
+        wireMock.stubFor(get(urlEqualTo(GET_MOVIES_BY_YEAR+"?year="+movieYear))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.OK.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -213,7 +246,7 @@ public class MoviesRestClientTest {
         //Given
         Integer movieYear = 2000;
 
-        stubFor(get(urlEqualTo(GET_MOVIES_BY_YEAR+"?year="+movieYear))
+        wireMock.stubFor(get(urlEqualTo(GET_MOVIES_BY_YEAR+"?year="+movieYear))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.NOT_FOUND.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -228,7 +261,7 @@ public class MoviesRestClientTest {
     @Test
     void testAddMovie() {
         //Given
-        stubFor(post(urlPathMatching(ADD_MOVIE_V1))
+        wireMock.stubFor(post(urlPathMatching(ADD_MOVIE_V1))
                 .withRequestBody(matchingJsonPath("$.name", equalTo("Toy Story 4")))
                 .withRequestBody(matchingJsonPath("$.cast", containing("Tom")))
                 .willReturn(WireMock.aResponse()
@@ -249,7 +282,7 @@ public class MoviesRestClientTest {
     void testAddMovie_ResponseTemplate() {
         //Given
         String movieName = "Cast Away";
-        stubFor(post(urlPathMatching(ADD_MOVIE_V1))
+        wireMock.stubFor(post(urlPathMatching(ADD_MOVIE_V1))
                 .withRequestBody(matchingJsonPath("$.name", equalTo(movieName)))
                 .withRequestBody(matchingJsonPath("$.cast", containing("Tom")))
                 .willReturn(WireMock.aResponse()
@@ -269,7 +302,7 @@ public class MoviesRestClientTest {
     @Test
     void testAddMovie_BadRequest(){
 
-        stubFor(post(urlPathMatching(ADD_MOVIE_V1))
+        wireMock.stubFor(post(urlPathMatching(ADD_MOVIE_V1))
                 .withRequestBody(matchingJsonPath("$.cast", containing("Tom")))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.BAD_REQUEST.value())
@@ -292,7 +325,7 @@ public class MoviesRestClientTest {
         Movie movie_4 = new Movie(null, null,
                 cast, null, null);
 
-        stubFor(put(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+        wireMock.stubFor(put(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
                 .withRequestBody(matchingJsonPath("$.cast", containing(cast)))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.OK.value())
@@ -309,7 +342,7 @@ public class MoviesRestClientTest {
         Movie movie_100 = new Movie(null, null,
                 "ABC", null, null);
 
-        stubFor(put(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+        wireMock.stubFor(put(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.NOT_FOUND.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)));
@@ -324,7 +357,7 @@ public class MoviesRestClientTest {
 
         //Given
         String expectedErrorMessage = "Movie Deleted Successfully";
-        stubFor(delete(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+        wireMock.stubFor(delete(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.OK.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -343,7 +376,7 @@ public class MoviesRestClientTest {
     void testDeleteMovie_NotFound() {
         Integer movieId = 100;
 
-        stubFor(delete(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+        wireMock.stubFor(delete(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
                 .willReturn(WireMock.aResponse()
                         .withStatus(HttpStatus.NOT_FOUND.value())
                         .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
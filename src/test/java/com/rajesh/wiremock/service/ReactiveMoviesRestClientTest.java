@@ -0,0 +1,126 @@
+package com.rajesh.wiremock.service;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.rajesh.wiremock.dto.Movie;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import java.util.stream.Stream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.rajesh.wiremock.constants.MoviesAppConstants.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SharedWireMockExtension.class)
+@Execution(ExecutionMode.CONCURRENT)
+public class ReactiveMoviesRestClientTest {
+
+    ReactiveMoviesRestClient reactiveMoviesRestClient;
+
+    StubNamespace wireMock;
+
+    @BeforeEach
+    void setUp() {
+        String baseUrl = wireMock.baseUrl();
+        reactiveMoviesRestClient = new ReactiveMoviesRestClient(WebClient.create(baseUrl));
+    }
+
+    @Test
+    void testRetrieveAllMovies() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("all-movies.json")));
+
+        //When & Then
+        StepVerifier.create(reactiveMoviesRestClient.retrieveAllMovies())
+                .expectNextMatches(movie -> "Batman Begins".equals(movie.getName()))
+                .thenConsumeWhile(movie -> true)
+                .verifyComplete();
+    }
+
+    @Test
+    void testRetrieveAllMovies_StreamJson() {
+        //Given
+        String body = "{\"movie_id\": 1, \"name\": \"Batman Begins\", \"year\": 2005}\n"
+                + "{\"movie_id\": 2, \"name\": \"Dark Knight\", \"year\": 2008}\n";
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_STREAM_JSON_VALUE)
+                        .withBody(body)));
+
+        //When & Then
+        StepVerifier.create(reactiveMoviesRestClient.retrieveAllMovies())
+                .expectNextMatches(movie -> movie.getMovie_id() == 1L)
+                .expectNextMatches(movie -> "Dark Knight".equals(movie.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testStreamAllMovies_Blocking() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("all-movies.json")));
+        MoviesRestClient moviesRestClient = new MoviesRestClient(reactiveMoviesRestClient);
+
+        //When
+        long count;
+        try (Stream<Movie> movies = moviesRestClient.streamAllMovies()) {
+            count = movies.filter(movie -> movie.getYear() >= 2008).count();
+        }
+
+        //Then
+        assertTrue(count > 0);
+    }
+
+    @Test
+    void testRetrieveMovieById_NotFound() {
+        //Given
+        wireMock.stubFor(get(urlPathMatching("/movieservice/v1/movie/[0-9]+"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("404-movie-id.json")));
+
+        //When & Then
+        StepVerifier.create(reactiveMoviesRestClient.retrieveMovieById(100))
+                .expectError(MovieErrorResponse.class)
+                .verify();
+    }
+
+    @Test
+    void testRetrieveMoviesByYear_IsLazy() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo(GET_MOVIES_BY_YEAR + "?year=2012"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie-by-year.json")));
+
+        //When
+        reactiveMoviesRestClient.retrieveMoviesByYear(2012);
+
+        //Then
+        wireMock.verify(0, getRequestedFor(anyUrl()));
+        StepVerifier.create(reactiveMoviesRestClient.retrieveMoviesByYear(2012))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,115 @@
+package com.rajesh.wiremock.support;
+
+import com.github.tomakehurst.wiremock.common.BinaryFile;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.common.TextFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads each fixture from disk once. Every later stub that serves it, from any test, gets
+ * the bytes from memory. Fixtures are not expected to change while tests run.
+ */
+class CachingFileSource implements FileSource {
+
+    private final FileSource delegate;
+    private final Map<URI, byte[]> contents;
+
+    CachingFileSource(FileSource delegate){
+        this(delegate, new ConcurrentHashMap<>());
+    }
+
+    private CachingFileSource(FileSource delegate, Map<URI, byte[]> contents){
+        this.delegate = delegate;
+        this.contents = contents;
+    }
+
+    @Override
+    public BinaryFile getBinaryFileNamed(String name){
+        return getTextFileNamed(name);
+    }
+
+    @Override
+    public TextFile getTextFileNamed(String name){
+        URI uri = new File(delegate.getPath(), name).toURI();
+        byte[] bytes = contents.computeIfAbsent(uri, key -> delegate.getBinaryFileNamed(name).readContents());
+        return new CachedFile(uri, bytes);
+    }
+
+    @Override
+    public void createIfNecessary(){
+        delegate.createIfNecessary();
+    }
+
+    @Override
+    public FileSource child(String subDirectoryName){
+        return new CachingFileSource(delegate.child(subDirectoryName), contents);
+    }
+
+    @Override
+    public String getPath(){
+        return delegate.getPath();
+    }
+
+    @Override
+    public URI getUri(){
+        return delegate.getUri();
+    }
+
+    @Override
+    public List<TextFile> listFilesRecursively(){
+        return delegate.listFilesRecursively();
+    }
+
+    @Override
+    public void writeTextFile(String name, String contents){
+        delegate.writeTextFile(name, contents);
+    }
+
+    @Override
+    public void writeBinaryFile(String name, byte[] contents){
+        delegate.writeBinaryFile(name, contents);
+    }
+
+    @Override
+    public boolean exists(){
+        return delegate.exists();
+    }
+
+    @Override
+    public void deleteFile(String name){
+        delegate.deleteFile(name);
+    }
+
+    private static final class CachedFile extends TextFile {
+
+        private final byte[] contents;
+
+        private CachedFile(URI uri, byte[] contents){
+            super(uri);
+            this.contents = contents;
+        }
+
+        @Override
+        public byte[] readContents(){
+            return contents;
+        }
+
+        @Override
+        public String readContentsAsString(){
+            return new String(contents, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public InputStream getStream(){
+            return new ByteArrayInputStream(contents);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.rajesh.wiremock.support;
+
+import com.github.tomakehurst.wiremock.extension.requestfilter.RequestFilterAction;
+import com.github.tomakehurst.wiremock.extension.requestfilter.RequestWrapper;
+import com.github.tomakehurst.wiremock.extension.requestfilter.StubRequestFilter;
+import com.github.tomakehurst.wiremock.http.Request;
+
+/**
+ * Moves the namespace out of the path and into a header. A request for
+ * {@code /__ns/t7/movieservice/v1/allMovies} is matched, logged and templated as
+ * {@code /movieservice/v1/allMovies} with the header {@code X-Stub-Namespace: t7}.
+ */
+class NamespaceRequestFilter extends StubRequestFilter {
+
+    static final String PATH_PREFIX = "/__ns/";
+    static final String NAMESPACE_HEADER = "X-Stub-Namespace";
+
+    @Override
+    public RequestFilterAction filter(Request request){
+        String url = request.getUrl();
+        if (!url.startsWith(PATH_PREFIX)){
+            return RequestFilterAction.continueWith(request);
+        }
+        int end = url.indexOf('/', PATH_PREFIX.length());
+        String namespace = url.substring(PATH_PREFIX.length(), end < 0 ? url.length() : end);
+        String namespacePath = PATH_PREFIX + namespace;
+        return RequestFilterAction.continueWith(RequestWrapper.create()
+                .transformAbsoluteUrl(absoluteUrl -> absoluteUrl.replaceFirst(namespacePath, ""))
+                .addHeader(NAMESPACE_HEADER, namespace)
+                .wrap(request));
+    }
+
+    @Override
+    public String getName(){
+        return "stub-namespace";
+    }
+}
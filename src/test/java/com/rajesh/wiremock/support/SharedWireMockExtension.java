@@ -0,0 +1,83 @@
+package com.rajesh.wiremock.support;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+/**
+ * Runs one WireMock server on a dynamic port for the whole test run, shared by every test
+ * class, and injects a fresh {@link StubNamespace} into each {@code StubNamespace} field of
+ * the test instance before each test. A test only sees its own stubs and requests, so tests
+ * can run in parallel against the one server (see {@code junit-platform.properties}).
+ *
+ * <p>Response templating is enabled for every stub, and {@code __files} fixtures are read
+ * from {@code src/test/resources} once and then served from memory.
+ */
+public class SharedWireMockExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace STORE = ExtensionContext.Namespace.create(SharedWireMockExtension.class);
+    private static final AtomicLong NAMESPACE_SEQUENCE = new AtomicLong();
+    private static final int CONTAINER_THREADS = 50;
+
+    @Override
+    public void beforeEach(ExtensionContext context) throws IllegalAccessException {
+        WireMockServer server = context.getRoot().getStore(STORE)
+                .getOrComputeIfAbsent(SharedServer.class, key -> new SharedServer(), SharedServer.class)
+                .server;
+        StubNamespace stubs = new StubNamespace(server, "t" + NAMESPACE_SEQUENCE.incrementAndGet());
+        context.getStore(STORE).put(StubNamespace.class, stubs);
+
+        Object testInstance = context.getRequiredTestInstance();
+        for (Class<?> type = testInstance.getClass(); type != Object.class; type = type.getSuperclass()){
+            for (Field field : type.getDeclaredFields()){
+                if (field.getType() == StubNamespace.class){
+                    field.setAccessible(true);
+                    field.set(testInstance, stubs);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context){
+        StubNamespace stubs = context.getStore(STORE).remove(StubNamespace.class, StubNamespace.class);
+        if (stubs != null){
+            stubs.removeStubs();
+        }
+    }
+
+    /**
+     * Stopped by JUnit once every test has run.
+     */
+    private static final class SharedServer implements CloseableResource {
+
+        private final WireMockServer server;
+
+        private SharedServer(){
+            server = new WireMockServer(wireMockConfig()
+                    .dynamicPort()
+                    .containerThreads(CONTAINER_THREADS)
+                    .asynchronousResponseEnabled(true)
+                    .asynchronousResponseThreads(CONTAINER_THREADS)
+                    .fileSource(new CachingFileSource(new SingleRootFileSource("src/test/resources")))
+                    .notifier(new ConsoleNotifier(false))
+                    .extensions(new ResponseTemplateTransformer(true), new NamespaceRequestFilter()));
+            server.start();
+        }
+
+        @Override
+        public void close(){
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.rajesh.wiremock.support;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+
+/**
+ * One test's view of the shared WireMock server. Requests sent to {@link #baseUrl()} only
+ * match stubs registered here, {@link #verify} only counts those requests, and scenarios
+ * are private to the test. Stubs are removed after the test.
+ */
+public class StubNamespace {
+
+    private final WireMockServer server;
+    private final String name;
+    private final List<StubMapping> stubs = new CopyOnWriteArrayList<>();
+
+    StubNamespace(WireMockServer server, String name){
+        this.server = server;
+        this.name = name;
+    }
+
+    /**
+     * @return the URL to build clients with; paths are appended to it as usual
+     */
+    public String baseUrl(){
+        return String.format("http://localhost:%s%s%s", server.port(), NamespaceRequestFilter.PATH_PREFIX, name);
+    }
+
+    public StubMapping stubFor(MappingBuilder mappingBuilder){
+        StubMapping stub = mappingBuilder
+                .withHeader(NamespaceRequestFilter.NAMESPACE_HEADER, equalTo(name))
+                .build();
+        if (stub.getScenarioName() != null){
+            stub.setScenarioName(name + ':' + stub.getScenarioName());
+        }
+        server.addStubMapping(stub);
+        stubs.add(stub);
+        return stub;
+    }
+
+    public void verify(RequestPatternBuilder requestPattern){
+        server.verify(scoped(requestPattern));
+    }
+
+    public void verify(int count, RequestPatternBuilder requestPattern){
+        server.verify(count, scoped(requestPattern));
+    }
+
+    public List<LoggedRequest> findAll(RequestPatternBuilder requestPattern){
+        return server.findAll(scoped(requestPattern));
+    }
+
+    void removeStubs(){
+        for (StubMapping stub : stubs){
+            server.removeStubMapping(stub);
+        }
+        stubs.clear();
+    }
+
+    private RequestPatternBuilder scoped(RequestPatternBuilder requestPattern){
+        return requestPattern.withHeader(NamespaceRequestFilter.NAMESPACE_HEADER, equalTo(name));
+    }
+}
@@ -0,0 +1,176 @@
+package com.rajesh.wiremock.tracing;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.rajesh.wiremock.config.MoviesClientConfig;
+import com.rajesh.wiremock.config.TracingConfig;
+import com.rajesh.wiremock.constants.MovieEndpoint;
+import com.rajesh.wiremock.exception.MovieErrorResponse;
+import com.rajesh.wiremock.metrics.RequestPhaseMetrics;
+import com.rajesh.wiremock.service.MoviesRestClient;
+import com.rajesh.wiremock.service.MoviesRestClientFactory;
+import com.rajesh.wiremock.support.SharedWireMockExtension;
+import com.rajesh.wiremock.support.StubNamespace;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SharedWireMockExtension.class)
+public class RequestTracerTest {
+
+    MoviesRestClientFactory factory;
+    List<RequestTrace> traces = new CopyOnWriteArrayList<>();
+
+    StubNamespace wireMock;
+
+    @AfterEach
+    void tearDown() {
+        if (factory != null) {
+            factory.dispose();
+        }
+    }
+
+    @Test
+    void testPhasesOfNewAndPooledConnections() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/1"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")
+                        .withFixedDelay(200)));
+        MoviesRestClient moviesRestClient = newClient(TracingConfig.builder()
+                .sampleRate(1)
+                .exporter(traces::add)
+                .build());
+
+        //When
+        moviesRestClient.retrieveMovieById(1);
+        moviesRestClient.retrieveMovieById(1);
+
+        //Then
+        assertEquals(2, traces.size());
+        RequestTrace first = traces.get(0);
+        assertEquals(MovieEndpoint.GET_MOVIE_BY_ID, first.getEndpoint());
+        assertEquals(SignalType.ON_COMPLETE, first.getOutcome());
+        assertTrue(first.isNewConnection());
+        assertTrue(first.getNanos(RequestPhase.DNS) >= 0);
+        assertTrue(first.getNanos(RequestPhase.CONNECT) > 0);
+        assertTrue(first.getNanos(RequestPhase.TIME_TO_FIRST_BYTE) >= TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(first.getTotalNanos(), first.getPhases().values().stream().mapToLong(Long::longValue).sum());
+
+        RequestTrace second = traces.get(1);
+        assertFalse(second.isNewConnection());
+        assertEquals(-1, second.getNanos(RequestPhase.CONNECT));
+        assertTrue(second.getPhases().keySet().containsAll(Arrays.asList(RequestPhase.POOL_ACQUIRE,
+                RequestPhase.REQUEST_WRITE, RequestPhase.TIME_TO_FIRST_BYTE, RequestPhase.RESPONSE_BODY,
+                RequestPhase.DECODE)));
+    }
+
+    @Test
+    void testUnsampledRequestsAreNotTraced() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/1"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")));
+        MoviesRestClient moviesRestClient = newClient(TracingConfig.builder()
+                .sampleRate(0)
+                .exporter(traces::add)
+                .build());
+
+        //When
+        moviesRestClient.retrieveMovieById(1);
+
+        //Then
+        assertTrue(traces.isEmpty());
+    }
+
+    @Test
+    void testConnectIsNotReportedForRequestAfterUnsampledFirstRequest() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/1"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("movie.json")));
+        ConnectionProvider connectionProvider = ConnectionProvider.fixed("tracer-test", 1);
+        HttpClient httpClient = RequestTracer.instrument(HttpClient.create(connectionProvider)
+                .baseUrl(wireMock.baseUrl()));
+        RequestTracer unsampled = new RequestTracer(TracingConfig.builder().sampleRate(0).build(), traces::add);
+        RequestTracer sampled = new RequestTracer(TracingConfig.builder().sampleRate(1).build(), traces::add);
+
+        try {
+            //When
+            unsampled.trace(MovieEndpoint.GET_MOVIE_BY_ID, retrieveMovie(httpClient)).block();
+            sampled.trace(MovieEndpoint.GET_MOVIE_BY_ID, retrieveMovie(httpClient)).block();
+
+            //Then
+            assertEquals(1, traces.size());
+            assertFalse(traces.get(0).isNewConnection());
+            assertEquals(-1, traces.get(0).getNanos(RequestPhase.CONNECT));
+        } finally {
+            connectionProvider.dispose();
+        }
+    }
+
+    @Test
+    void testPhaseTimersInMeterRegistry() {
+        //Given
+        wireMock.stubFor(get(urlEqualTo("/movieservice/v1/movie/404"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.NOT_FOUND.value())
+                        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .withBodyFile("404-movie-id.json")));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        factory = new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(wireMock.baseUrl())
+                .tracing(TracingConfig.builder().sampleRate(1).build())
+                .meterRegistry(registry)
+                .build());
+
+        //When
+        assertThrows(MovieErrorResponse.class, () -> factory.moviesRestClient().retrieveMovieById(404));
+
+        //Then
+        String endpoint = MovieEndpoint.GET_MOVIE_BY_ID.name();
+        assertEquals(1, registry.get(RequestPhaseMetrics.PHASES)
+                .tags("endpoint", endpoint, "phase", RequestPhase.CONNECT.name()).timer().count());
+        assertEquals(1, registry.get(RequestPhaseMetrics.PHASES)
+                .tags("endpoint", endpoint, "phase", RequestPhase.TIME_TO_FIRST_BYTE.name()).timer().count());
+        assertEquals(0, registry.get(RequestPhaseMetrics.PHASES)
+                .tags("endpoint", MovieEndpoint.ADD_MOVIE_V1.name(), "phase", RequestPhase.CONNECT.name()).timer().count());
+    }
+
+    private static Mono<String> retrieveMovie(HttpClient httpClient) {
+        return httpClient.get()
+                .uri("/movieservice/v1/movie/1")
+                .responseContent()
+                .aggregate()
+                .asString();
+    }
+
+    private MoviesRestClient newClient(TracingConfig tracing) {
+        factory = new MoviesRestClientFactory(MoviesClientConfig.builder()
+                .baseUrl(wireMock.baseUrl())
+                .tracing(tracing)
+                .build());
+        return factory.moviesRestClient();
+    }
+}